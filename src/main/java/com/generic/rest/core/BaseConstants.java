@@ -40,6 +40,30 @@ public final class BaseConstants {
 		public static final String RELAXED_SERVER_CHARS_VALUE = "[]|{}^&#x5c;&#x60;&quot;&lt;&gt;";
 		public static final String RELAXED_SERVER_PATH_KEY = "relaxedPathChars";
 		public static final String RELAXED_SERVER_PATH_VALUE = "[]|";
+		public static final String VIRTUAL_THREADS = "${api.tomcat.virtual-threads:${spring.threads.virtual.enabled:false}}";
+		public static final String VIRTUAL_THREAD_NAME_PREFIX = "api-tomcat-";
+	}
+	
+	/**
+	 * Virtual thread monitoring constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class VIRTUALTHREAD {
+		
+		/**
+		 * Default constructor.
+		 */
+		private VIRTUALTHREAD() {
+			
+		}
+		
+		public static final String PINNING_METRICS_ENABLED = "${api.virtual-threads.pinning.metrics.enabled:false}";
+		public static final String PINNING_THRESHOLD = "${api.virtual-threads.pinning.threshold:20}";
+		public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+		public static final String PINNED_METRIC = "api.virtual.threads.pinned";
+		public static final String PINNED_METRIC_DESCRIPTION = "Time virtual threads stayed pinned to their carrier thread while blocked";
 	}
 	
 	/**
@@ -79,6 +103,159 @@ public final class BaseConstants {
 		}
 	}
 	
+	/**
+	 * Query plan constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class QUERYPLAN {
+		
+		/**
+		 * Default constructor.
+		 */
+		private QUERYPLAN() {
+			
+		}
+		
+		public static final long CACHE_MAX_SIZE = 500L;
+		public static final String KEYSET_TIEBREAK_FIELD = "id";
+		public static final String POSTGRESQL_ESTIMATED_COUNT = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?1)";
+	}
+	
+	/**
+	 * Entity cache constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class CACHE {
+		
+		/**
+		 * Default constructor.
+		 */
+		private CACHE() {
+			
+		}
+		
+		public static final String API_ENTITIES = "apiEntities";
+		public static final String REGION_SEPARATOR = "::";
+		public static final String CACHE_RESOLVER = "apiEntityCacheResolver";
+		public static final String CAFFEINE_SPEC_PROPERTY = "spring.cache.caffeine.spec";
+		public static final String KEY_GENERATOR = "apiEntityKeyGenerator";
+		public static final String REQUEST_FILTER_KEYS_ATTRIBUTE = "apiEntityKeyGenerator.requestFilterKeys";
+		public static final String REFRESH_PROPERTY_PREFIX = "api.cache.refresh.";
+		public static final String SOFT_TTL_PROPERTY = "soft-ttl";
+		public static final String HARD_TTL_PROPERTY = "hard-ttl";
+		public static final long DEFAULT_HARD_TTL_FACTOR = 2L;
+		public static final String ENTITY_CACHE_ENABLED = "${api.cache.entity.enabled:false}";
+		public static final String ENTITY_CACHE_MAXIMUM_SIZE = "${api.cache.entity.maximum-size:10000}";
+		public static final String ENTITY_CACHE_EXPIRE_AFTER_WRITE = "${api.cache.entity.expire-after-write:300000}";
+	}
+	
+	/**
+	 * Concurrent query execution constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class CONCURRENTQUERY {
+		
+		/**
+		 * Default constructor.
+		 */
+		private CONCURRENTQUERY() {
+			
+		}
+		
+		public static final String ENABLED = "${api.query.concurrent.enabled:false}";
+		public static final String TIMEOUT = "${api.query.concurrent.timeout:30000}";
+		public static final String MAX_QUERIES = "${api.query.concurrent.max-queries:8}";
+	}
+	
+	/**
+	 * Reactive query scheduling constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class REACTIVE {
+		
+		/**
+		 * Default constructor.
+		 */
+		private REACTIVE() {
+			
+		}
+		
+		public static final String VIRTUAL_THREADS = "${api.reactive.virtual-threads:false}";
+		public static final String THREAD_CAP = "${api.reactive.thread.cap:0}";
+		public static final String QUEUE_CAP = "${api.reactive.queue.cap:100000}";
+		public static final String DEMAND_TIMEOUT = "${api.reactive.demand-timeout:30000}";
+		public static final String SCHEDULER_NAME = "api-reactive-query";
+	}
+	
+	/**
+	 * Streaming export constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class EXPORT {
+		
+		/**
+		 * Default constructor.
+		 */
+		private EXPORT() {
+			
+		}
+		
+		public static final String FETCH_SIZE = "${api.export.fetch.size:500}";
+		public static final String NDJSON_SEPARATOR = "\n";
+	}
+	
+	/**
+	 * Bulk write constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class BULK {
+		
+		/**
+		 * Default constructor.
+		 */
+		private BULK() {
+			
+		}
+		
+		public static final String BATCH_SIZE = "${api.bulk.batch.size:50}";
+		public static final String DELETE_CHUNK_SIZE = "${api.bulk.delete.chunk.size:1000}";
+		public static final String ID_FIELD = "id";
+	}
+	
+	/**
+	 * Partial update constants.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	public static final class PATCH {
+		
+		/**
+		 * Default constructor.
+		 */
+		private PATCH() {
+			
+		}
+		
+		public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+		public static final String EXTERNAL_ID_FIELD = "externalId";
+		public static final String ACTIVE_FIELD = "active";
+		public static final String UPDATE_DATE_FIELD = "updateDate";
+		public static final String DELETE_DATE_FIELD = "deleteDate";
+	}
+	
 	/**
 	 * API Controller constants.
 	 * 
@@ -103,6 +280,9 @@ public final class BaseConstants {
 		public static final String ID_PARAM = "{" + ID + "}";
 		public static final String ID_PATH = PATH_SEPARATOR + ID_PARAM;
 		public static final String HEALTH_PATH = PATH_SEPARATOR + "health";
+		public static final String EXPORT_PATH = PATH_SEPARATOR + "export";
+		public static final String BULK_PATH = PATH_SEPARATOR + "bulk";
+		public static final String LOGIC_DELETE_PARAM = "logic";
 		public static final String BASE_PATH = PATH_SEPARATOR + VERSION + PATH_SEPARATOR;
 	}
 
@@ -181,12 +361,21 @@ public final class BaseConstants {
 		public static final String ENTITY_NOT_FOUND_ERROR = "No entity found for externalId [%s]";
 		public static final String ENTITY_NULL_ERROR = "No entity found or null entity";
 		public static final String BASE_ENTITY_NOT_FOUND_ERROR = "No entity found for id [%s]";
+		public static final String STALE_ENTITY_ERROR = "No entity found for [%s] with version [%s], it was removed or updated concurrently";
+		public static final String BULK_ENTITY_NULL_ERROR = "Null entity at bulk index [%s]";
+		public static final String BULK_WRITE_ERROR = "Error writing bulk of [%s] entities";
+		public static final String PATCH_FIELD_ERROR = "Field [%s] can not be patched";
+		public static final String PATCH_VALUE_ERROR = "Invalid value for patched field [%s]";
 		public static final String PARSE_PROJECTIONS_ERROR = "Error parsing projections of filter [%s]";
 		public static final String PARSE_FILTER_FIELDS_ERROR = "Error parsing filter fields of filter [%s]";
 		public static final String PARSE_SORT_ORDER_ERROR = "Error parsing sort order of filter [%s]";
+		public static final String PARSE_CURSOR_ERROR = "Error parsing pagination cursor [%s]";
+		public static final String CONCURRENT_QUERY_TIMEOUT_ERROR = "Concurrent query timed out after [%s] ms";
+		public static final String CONCURRENT_QUERY_ERROR = "Unexpected error running concurrent query";
+		public static final String REACTIVE_DEMAND_TIMEOUT_ERROR = "No demand for streamed records after [%s] ms";
 		public static final String UNEXPECTED_FETCHING_ERROR = "Unexpected error processing query data [%s]";
 		public static final String INVALID_AGGREGATION_ERROR = "Invalid aggregation fields";
-		public static final String ERROR_PARSE_DATE = "Error while parsing date [{}] to Calendar";
+		public static final String ERROR_PARSE_DATE = "Error while parsing date [{}]";
 		public static final String AUTH_ERROR_INVALID_TOKEN = "Invalid token [{}]";
 		public static final String AUTHORIZATION_TOKEN_NOT_VALID = "Authorization token not valid";
 		public static final String INTERNAL_ERROR = "Unexpected error";
@@ -1,5 +1,7 @@
 package com.generic.rest.core.config;
 
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
 import org.springframework.context.annotation.Bean;
@@ -8,7 +10,9 @@ import org.springframework.context.annotation.Configuration;
 import com.generic.rest.core.BaseConstants.TOMCAT;
 
 /**
- * Tomcat server customizer to allow special characters in embedded server for url request filter.
+ * Tomcat server customizer to allow special characters in embedded server for url request filter. </p>
+ * Requests may also run on virtual threads instead of the platform thread pool, so requests blocked on JDBC calls do
+ * not hold a pooled thread.
  * 
  * @author leonardo.ramos
  *
@@ -18,16 +22,23 @@ public class TomcatWebServerCustomizer {
 	
 	/**
 	 * Create bean of Server factory configuration for Tomcat embedded server.
+	 * 
+	 * @param virtualThreads
 	 * @return {@link ConfigurableServletWebServerFactory}.
 	 */
 	@Bean
-    public ConfigurableServletWebServerFactory webServerFactory() {
+    public ConfigurableServletWebServerFactory webServerFactory(@Value(TOMCAT.VIRTUAL_THREADS) boolean virtualThreads) {
         TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
         
         factory.addConnectorCustomizers(connector -> {
             connector.setProperty(TOMCAT.RELAXED_SERVER_CHARS_KEY, TOMCAT.RELAXED_SERVER_CHARS_VALUE);
             connector.setProperty(TOMCAT.RELAXED_SERVER_PATH_KEY, TOMCAT.RELAXED_SERVER_PATH_VALUE);
         });
+        
+        if (virtualThreads) {
+        	factory.addProtocolHandlerCustomizers(protocolHandler -> 
+        			protocolHandler.setExecutor(new VirtualThreadExecutor(TOMCAT.VIRTUAL_THREAD_NAME_PREFIX)));
+        }
      
         return factory;
     }
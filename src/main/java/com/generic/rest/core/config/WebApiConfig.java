@@ -4,15 +4,18 @@ import java.util.TimeZone;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.generic.rest.core.config.health.DatabaseHealthIndicator;
+import com.generic.rest.core.util.codec.ValueCodecCustomizer;
+import com.generic.rest.core.util.codec.ValueCodecRegistry;
 
 /**
- * Web configuration for datetime parser and Health check indicator for database.
+ * Web configuration for datetime parser, filter value codecs and Health check indicator for database.
  * 
  * @author leonardo.ramos
  *
@@ -39,4 +42,17 @@ public class WebApiConfig {
         return builder -> builder.timeZone(TimeZone.getDefault());
 	}
 	
+	/**
+	 * Create bean of the filter value codecs, applying every {@link ValueCodecCustomizer} bean.
+	 * @param valueCodecCustomizers
+	 * @return {@link ValueCodecRegistry}.
+	 */
+	@Bean
+	public ValueCodecRegistry valueCodecRegistry(ObjectProvider<ValueCodecCustomizer> valueCodecCustomizers) {
+		ValueCodecRegistry valueCodecRegistry = new ValueCodecRegistry();
+		valueCodecCustomizers.orderedStream().forEach(customizer -> customizer.customize(valueCodecRegistry));
+		
+		return valueCodecRegistry;
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.generic.rest.core.config.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.generic.rest.core.BaseConstants.CACHE;
+import com.generic.rest.core.domain.filter.RequestFilterKey;
+import com.generic.rest.core.service.impl.ApiRestServiceImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.common.util.StringUtils;
+
+/**
+ * {@link CacheResolver} that resolves one cache region per entity for {@link ApiRestServiceImpl} services, so queries and
+ * evictions of an entity never touch cached results of other entities. </p>
+ * Statically configured cache names (spring.cache.cache-names) are supported alongside the regions: with a
+ * {@link CaffeineCacheManager} the regions are registered as custom caches built from spring.cache.caffeine.spec. Any other
+ * {@link CacheManager} that does not create caches on demand must declare the regions among its cache names, otherwise the
+ * shared {@link CACHE#API_ENTITIES} cache is used, with a warning, and writes of an entity evict cached results of all
+ * entities. </p>
+ * With a {@link CaffeineCacheManager}, regions can refresh ahead of expiry: after the soft TTL of an entity
+ * (api.cache.refresh.[Entity].soft-ttl or api.cache.refresh.soft-ttl) entries are still served stale while they are reloaded in
+ * background, and only after the hard TTL (hard-ttl, twice the soft TTL by default) they expire. Reloads rebuild the
+ * {@link com.generic.rest.core.domain.filter.RequestFilter} from the canonical parameters of the key and go through the
+ * service bean, so its transactional configuration applies.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@Component(CACHE.CACHE_RESOLVER)
+public class ApiEntityCacheResolver implements CacheResolver {
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApiEntityCacheResolver.class);
+	
+	private final ConcurrentMap<String, Cache> regions = new ConcurrentHashMap<>();
+	
+	private CacheManager cacheManager;
+	private Environment environment;
+	private ApplicationContext applicationContext;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param cacheManager
+	 * @param environment
+	 * @param applicationContext
+	 */
+	@Autowired
+	public ApiEntityCacheResolver(CacheManager cacheManager, Environment environment, ApplicationContext applicationContext) {
+		this.cacheManager = cacheManager;
+		this.environment = environment;
+		this.applicationContext = applicationContext;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+		Cache cache = null;
+		
+		if (context.getTarget() instanceof ApiRestServiceImpl<?, ?> service) {
+			cache = this.regions.computeIfAbsent(service.getCacheRegion(), region -> this.createRegion(region, service));
+		}
+		
+		if (cache == null) {
+			cache = this.cacheManager.getCache(CACHE.API_ENTITIES);
+		}
+		
+		return cache == null ? Collections.emptyList() : Collections.singletonList(cache);
+	}
+	
+	/**
+	 * Create the cache region of a service, registering a refresh ahead cache when the entity has a soft TTL configured,
+	 * or a custom cache when the {@link CaffeineCacheManager} has statically configured cache names.
+	 * 
+	 * @param region
+	 * @param service
+	 * @return {@link Cache}, the shared cache if the region can not be created or null if there is no shared cache
+	 */
+	private Cache createRegion(String region, ApiRestServiceImpl<?, ?> service) {
+		String entityName = ApiEntityKeyGenerator.getEntityType(service).getSimpleName();
+		Duration softTtl = this.getTtl(entityName, CACHE.SOFT_TTL_PROPERTY);
+		
+		if (softTtl != null && this.cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+			Duration hardTtl = this.getTtl(entityName, CACHE.HARD_TTL_PROPERTY);
+			ApiRestServiceImpl<?, ?> serviceBean = this.getServiceBean(service);
+			
+			caffeineCacheManager.registerCustomCache(region, Caffeine.newBuilder()
+					.refreshAfterWrite(softTtl)
+					.expireAfterWrite(hardTtl != null ? hardTtl : softTtl.multipliedBy(CACHE.DEFAULT_HARD_TTL_FACTOR))
+					.build(key -> key instanceof RequestFilterKey requestFilterKey ? 
+							serviceBean.loadAll(requestFilterKey.toRequestFilter()) : null));
+		}
+		
+		Cache cache = this.cacheManager.getCache(region);
+		
+		if (cache == null && this.cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+			String spec = this.environment.getProperty(CACHE.CAFFEINE_SPEC_PROPERTY);
+			
+			caffeineCacheManager.registerCustomCache(region, 
+					(StringUtils.isBlank(spec) ? Caffeine.newBuilder() : Caffeine.from(spec)).build());
+			cache = this.cacheManager.getCache(region);
+		}
+		
+		if (cache == null) {
+			cache = this.cacheManager.getCache(CACHE.API_ENTITIES);
+			
+			if (cache != null) {
+				LOGGER.warn("Cache region [{}] is not configured, falling back to shared cache [{}]", region, CACHE.API_ENTITIES);
+			}
+		}
+		
+		return cache;
+	}
+	
+	/**
+	 * Return the bean of a service, i.e. its proxy when the service is proxied.
+	 * 
+	 * @param service
+	 * @return service bean or the service itself if no bean wraps it
+	 */
+	private ApiRestServiceImpl<?, ?> getServiceBean(ApiRestServiceImpl<?, ?> service) {
+		for (ApiRestServiceImpl<?, ?> bean : this.applicationContext.getBeansOfType(ApiRestServiceImpl.class).values()) {
+			if (bean == service || AopProxyUtils.getSingletonTarget(bean) == service) {
+				return bean;
+			}
+		}
+		
+		return service;
+	}
+	
+	/**
+	 * Return the TTL property of an entity, falling back to the TTL property shared by all entities.
+	 * 
+	 * @param entityName
+	 * @param property
+	 * @return TTL or null if not configured
+	 */
+	private Duration getTtl(String entityName, String property) {
+		Duration ttl = this.environment.getProperty(CACHE.REFRESH_PROPERTY_PREFIX + entityName + "." + property, Duration.class);
+		
+		if (ttl == null) {
+			ttl = this.environment.getProperty(CACHE.REFRESH_PROPERTY_PREFIX + property, Duration.class);
+		}
+		
+		return ttl;
+	}
+	
+}
@@ -0,0 +1,103 @@
+package com.generic.rest.core.config.cache;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.generic.rest.core.BaseConstants.CACHE;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.domain.filter.RequestFilterKey;
+import com.generic.rest.core.service.impl.ApiRestServiceImpl;
+
+/**
+ * {@link KeyGenerator} that builds a canonical {@link RequestFilterKey} for {@link RequestFilter} queries of
+ * {@link ApiRestServiceImpl} services, including the entity type of the service. </p>
+ * Within a web request the key of each {@link RequestFilter} is built only once and kept as a request attribute, so the
+ * cache lookup and the coalescing of concurrent calls of the same request share it.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@Component(CACHE.KEY_GENERATOR)
+public class ApiEntityKeyGenerator implements KeyGenerator {
+	
+	private static final ClassValue<Class<?>> ENTITY_TYPES = new ClassValue<>() {
+		
+		/**
+		 * Resolve the entity type of a service class from its {@link ApiRestServiceImpl} generic declaration.
+		 * 
+		 * @param serviceClass
+		 * @return entity type or the service class itself if it cannot be resolved
+		 */
+		@Override
+		protected Class<?> computeValue(Class<?> serviceClass) {
+			Class<?> entityType = ResolvableType.forClass(serviceClass).as(ApiRestServiceImpl.class).resolveGeneric(0);
+			return entityType != null ? entityType : serviceClass;
+		}
+	};
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		if (params.length == 1 && params[0] instanceof RequestFilter requestFilter) {
+			return getKey(getEntityType(target), requestFilter);
+		}
+		
+		return SimpleKeyGenerator.generateKey(params);
+	}
+	
+	/**
+	 * Return the canonical key of a {@link RequestFilter} for a given entity type, reusing the key already built for the
+	 * same request filter within the current web request.
+	 * 
+	 * @param entityType
+	 * @param requestFilter
+	 * @return {@link RequestFilterKey}
+	 */
+	@SuppressWarnings("unchecked")
+	public static RequestFilterKey getKey(Class<?> entityType, RequestFilter requestFilter) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		
+		if (requestAttributes == null) {
+			return RequestFilterKey.of(entityType, requestFilter);
+		}
+		
+		Map<RequestFilter, RequestFilterKey> requestFilterKeys = (Map<RequestFilter, RequestFilterKey>) requestAttributes
+				.getAttribute(CACHE.REQUEST_FILTER_KEYS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		
+		if (requestFilterKeys == null) {
+			requestFilterKeys = new IdentityHashMap<>();
+			requestAttributes.setAttribute(CACHE.REQUEST_FILTER_KEYS_ATTRIBUTE, requestFilterKeys, RequestAttributes.SCOPE_REQUEST);
+		}
+		
+		RequestFilterKey requestFilterKey = requestFilterKeys.get(requestFilter);
+		
+		if (requestFilterKey == null || requestFilterKey.getEntityType() != entityType) {
+			requestFilterKey = RequestFilterKey.of(entityType, requestFilter);
+			requestFilterKeys.put(requestFilter, requestFilterKey);
+		}
+		
+		return requestFilterKey;
+	}
+	
+	/**
+	 * Return the entity type of a {@link ApiRestServiceImpl} service.
+	 * 
+	 * @param service
+	 * @return entity type
+	 */
+	static Class<?> getEntityType(Object service) {
+		return ENTITY_TYPES.get(ClassUtils.getUserClass(service));
+	}
+	
+}
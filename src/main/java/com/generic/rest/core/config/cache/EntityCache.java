@@ -0,0 +1,566 @@
+package com.generic.rest.core.config.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.generic.rest.core.BaseConstants.CACHE;
+import com.generic.rest.core.domain.BaseApiEntity;
+import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+
+/**
+ * Size bounded read-through cache of entities by ID and by ExternalId, used by the point reads of the services. </p>
+ * It is disabled by default (api.cache.entity.enabled). Entities are put by reads once their transaction, if any,
+ * commits, and expire after api.cache.entity.expire-after-write milliseconds. The write operations of the services only
+ * evict the written entities, and committed updates and deletes of any entity are also evicted through Hibernate events.
+ * Every eviction records an invalidation stamp for its keys, so a put of an entity read before a concurrent eviction is
+ * rejected instead of caching stale state. </p>
+ * The cache holds a snapshot of the persistent basic state of each entity and of its loaded to-one associations, keeping
+ * only the type and ID of unloaded ones, and builds a new entity from it on every read, so callers can modify the returned
+ * entities without changing the cached state. Snapshots are taken without loading lazy state, and entities with
+ * persistent collections are not cached.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@Component
+public class EntityCache {
+	
+	private final boolean enabled;
+	private final Cache<EntityKey, EntitySnapshot> cache;
+	private final Cache<EntityKey, Long> invalidations;
+	private final AtomicLong stamp = new AtomicLong();
+	private final EntityMetadataRegistry entityMetadataRegistry;
+	private final PersistenceUnitUtil persistenceUnitUtil;
+	private final EntityManager entityManager;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param enabled
+	 * @param maximumSize
+	 * @param expireAfterWrite
+	 * @param entityManagerFactory
+	 * @param entityMetadataRegistry
+	 */
+	@Autowired
+	public EntityCache(@Value(CACHE.ENTITY_CACHE_ENABLED) boolean enabled, @Value(CACHE.ENTITY_CACHE_MAXIMUM_SIZE) long maximumSize,
+			@Value(CACHE.ENTITY_CACHE_EXPIRE_AFTER_WRITE) long expireAfterWrite, EntityManagerFactory entityManagerFactory, 
+			EntityMetadataRegistry entityMetadataRegistry) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+				.build();
+		this.invalidations = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+				.build();
+		this.entityMetadataRegistry = entityMetadataRegistry;
+		this.persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+		this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		
+		if (enabled) {
+			EntityCacheEvictionListener evictionListener = new EntityCacheEvictionListener();
+			EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+					.getServiceRegistry()
+					.getService(EventListenerRegistry.class);
+			
+			eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, evictionListener);
+			eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, evictionListener);
+		}
+	}
+	
+	/**
+	 * Verify if the entity cache is enabled.
+	 * 
+	 * @return true if enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Return the current invalidation stamp, to be taken before loading an entity and given to 
+	 * {@link #put(Class, BaseEntity, long)}.
+	 * 
+	 * @return invalidation stamp
+	 */
+	public long getStamp() {
+		return this.stamp.get();
+	}
+	
+	/**
+	 * Return the cached entity of given type and ID.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param id
+	 * @return copy of the cached entity or null if not cached
+	 */
+	public <E extends BaseEntity> E getById(Class<E> entityClass, Long id) {
+		return this.get(entityClass, id);
+	}
+	
+	/**
+	 * Return the cached entity of given type and ExternalId.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param externalId
+	 * @return copy of the cached entity or null if not cached
+	 */
+	public <E extends BaseEntity> E getByExternalId(Class<E> entityClass, String externalId) {
+		return this.get(entityClass, externalId);
+	}
+	
+	/**
+	 * Verify if the entity of given type and ID is cached, without building a copy of it.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param id
+	 * @return true if cached, false otherwise
+	 */
+	public <E extends BaseEntity> boolean contains(Class<E> entityClass, Long id) {
+		return this.enabled && id != null && this.cache.getIfPresent(new EntityKey(entityClass, id)) != null;
+	}
+	
+	/**
+	 * Put a snapshot of the entity in the cache by its ID and by its ExternalId, once the current transaction, if any,
+	 * commits. The put is rejected if any key of the entity was evicted after the given stamp was taken.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param entity
+	 * @param stamp invalidation stamp taken before loading the entity, see {@link #getStamp()}
+	 */
+	public <E extends BaseEntity> void put(Class<E> entityClass, E entity, long stamp) {
+		if (!this.enabled || entity == null || !Hibernate.isInitialized(entity)) {
+			return;
+		}
+		
+		EntitySnapshot snapshot = this.snapshot(Hibernate.unproxy(entity), new IdentityHashMap<>());
+		
+		if (snapshot == null) {
+			return;
+		}
+		
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				
+				/**
+				 * {@inheritDoc}
+				 */
+				@Override
+				public void afterCommit() {
+					EntityCache.this.putCommitted(entityClass, snapshot, stamp);
+				}
+			});
+			
+		} else {
+			this.putCommitted(entityClass, snapshot, stamp);
+		}
+	}
+	
+	/**
+	 * Put the snapshot of the committed entity in the cache by its ID and by its ExternalId, unless any of its keys was
+	 * evicted after the given stamp. The keys are verified again after the put, removing the snapshot if an eviction ran
+	 * concurrently.
+	 * 
+	 * @param entityClass
+	 * @param snapshot
+	 * @param stamp
+	 */
+	private void putCommitted(Class<?> entityClass, EntitySnapshot snapshot, long stamp) {
+		List<EntityKey> keys = snapshot.keys(entityClass);
+		
+		if (this.isInvalidated(keys, stamp)) {
+			return;
+		}
+		
+		for (EntityKey key : keys) {
+			this.cache.put(key, snapshot);
+		}
+		
+		if (this.isInvalidated(keys, stamp)) {
+			for (EntityKey key : keys) {
+				this.cache.asMap().remove(key, snapshot);
+			}
+		}
+	}
+	
+	/**
+	 * Verify if any of the keys was evicted after the given stamp.
+	 * 
+	 * @param keys
+	 * @param stamp
+	 * @return true if invalidated, false otherwise
+	 */
+	private boolean isInvalidated(List<EntityKey> keys, long stamp) {
+		for (EntityKey key : keys) {
+			Long invalidation = this.invalidations.getIfPresent(key);
+			
+			if (invalidation != null && invalidation > stamp) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Evict the entity of given type and ID, together with its ExternalId entry.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param id
+	 */
+	public <E extends BaseEntity> void evictById(Class<E> entityClass, Long id) {
+		this.evict(entityClass, id);
+	}
+	
+	/**
+	 * Evict the entity of given type and ExternalId, together with its ID entry.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param externalId
+	 */
+	public <E extends BaseEntity> void evictByExternalId(Class<E> entityClass, String externalId) {
+		this.evict(entityClass, externalId);
+	}
+	
+	/**
+	 * Return a copy of the cached entity of given type and key.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param key
+	 * @return copy of the cached entity or null if not cached
+	 */
+	private <E extends BaseEntity> E get(Class<E> entityClass, Object key) {
+		if (!this.enabled || key == null) {
+			return null;
+		}
+		
+		EntitySnapshot snapshot = this.cache.getIfPresent(new EntityKey(entityClass, key));
+		
+		return snapshot != null ? entityClass.cast(this.restore(snapshot, new IdentityHashMap<>())) : null;
+	}
+	
+	/**
+	 * Take a snapshot of the persistent state of an entity. Basic values are kept, loaded to-one associations are taken as
+	 * snapshots too and unloaded ones as references to their type and ID, without loading them.
+	 * 
+	 * @param entity
+	 * @param snapshots snapshots already taken in the graph
+	 * @return snapshot of the entity or null if the entity has persistent collections
+	 */
+	private EntitySnapshot snapshot(Object entity, Map<Object, EntitySnapshot> snapshots) {
+		if (snapshots.containsKey(entity)) {
+			return snapshots.get(entity);
+		}
+		
+		EntityMetadata entityMetadata = this.entityMetadataRegistry.getEntityMetadata(entity.getClass());
+		Map<AttributeMetadata, Object> values = new LinkedHashMap<>();
+		EntitySnapshot snapshot = new EntitySnapshot(entityMetadata, ((BaseEntity) entity).getId(), 
+				entity instanceof BaseApiEntity apiEntity ? apiEntity.getExternalId() : null, values);
+		snapshots.put(entity, snapshot);
+		
+		for (AttributeMetadata attribute : entityMetadata.getAttributes().values()) {
+			if (!attribute.isPersistent()) {
+				continue;
+			}
+			
+			if (attribute.isCollection()) {
+				return null;
+			}
+			
+			Object value = attribute.getValue(entity);
+			
+			if (value instanceof BaseEntity && !Hibernate.isInitialized(value)) {
+				values.put(attribute, new EntityReference(Hibernate.getClass(value), this.persistenceUnitUtil.getIdentifier(value)));
+				
+			} else if (value instanceof BaseEntity) {
+				EntitySnapshot association = this.snapshot(Hibernate.unproxy(value), snapshots);
+				
+				if (association == null) {
+					return null;
+				}
+				
+				values.put(attribute, association);
+				
+			} else {
+				values.put(attribute, this.copyValue(value));
+			}
+		}
+		
+		return snapshot;
+	}
+	
+	/**
+	 * Build a new entity from a snapshot, building its to-one associations from their snapshots and taking references of
+	 * the unloaded ones.
+	 * 
+	 * @param snapshot
+	 * @param entities entities already built in the graph
+	 * @return new entity
+	 */
+	private Object restore(EntitySnapshot snapshot, Map<EntitySnapshot, Object> entities) {
+		Object entity = entities.get(snapshot);
+		
+		if (entity != null) {
+			return entity;
+		}
+		
+		Object newEntity = snapshot.entityMetadata().newInstance();
+		entities.put(snapshot, newEntity);
+		
+		snapshot.values().forEach((attribute, value) -> {
+			if (value instanceof EntitySnapshot association) {
+				attribute.setValue(newEntity, this.restore(association, entities));
+				
+			} else if (value instanceof EntityReference reference) {
+				attribute.setValue(newEntity, this.entityManager.getReference(reference.entityClass(), reference.id()));
+				
+			} else {
+				attribute.setValue(newEntity, this.copyValue(value));
+			}
+		});
+		
+		return newEntity;
+	}
+	
+	/**
+	 * Copy a mutable basic value, keeping immutable values.
+	 * 
+	 * @param value
+	 * @return copy of the value
+	 */
+	private Object copyValue(Object value) {
+		if (value instanceof Calendar calendar) {
+			return calendar.clone();
+		}
+		
+		if (value instanceof Date date) {
+			return date.clone();
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Evict the entity of given type and key, together with the other key of the cached entity, both immediately and once the
+	 * current transaction, if any, completes.
+	 * 
+	 * @param <E>
+	 * @param entityClass
+	 * @param key
+	 */
+	private <E extends BaseEntity> void evict(Class<E> entityClass, Object key) {
+		if (!this.enabled || key == null) {
+			return;
+		}
+		
+		this.evictCommitted(entityClass, key);
+		
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				
+				/**
+				 * {@inheritDoc}
+				 */
+				@Override
+				public void afterCompletion(int status) {
+					EntityCache.this.evictCommitted(entityClass, key);
+				}
+			});
+		}
+	}
+	
+	/**
+	 * Evict the entity of given type and key from the cache, together with the other key of the cached entity, recording
+	 * an invalidation stamp for each evicted key.
+	 * 
+	 * @param entityClass
+	 * @param key
+	 */
+	private void evictCommitted(Class<?> entityClass, Object key) {
+		EntityKey entityKey = new EntityKey(entityClass, key);
+		this.invalidations.put(entityKey, this.stamp.incrementAndGet());
+		EntitySnapshot snapshot = this.cache.asMap().remove(entityKey);
+		
+		if (snapshot != null) {
+			for (EntityKey snapshotKey : snapshot.keys(entityClass)) {
+				this.invalidations.put(snapshotKey, this.stamp.incrementAndGet());
+				this.cache.invalidate(snapshotKey);
+			}
+		}
+	}
+	
+	/**
+	 * Hibernate listener that evicts committed updates and deletes of entities from the cache, so the cache stays coherent
+	 * with writes that do not go through the services write operations, e.g. overridden ones.
+	 * 
+	 * @author leonardo.ramos
+	 *
+	 */
+	private class EntityCacheEvictionListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+		
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void onPostUpdate(PostUpdateEvent event) {
+			this.evict(event.getEntity(), event.getId());
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+			this.evict(event.getEntity(), event.getId());
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void onPostDelete(PostDeleteEvent event) {
+			this.evict(event.getEntity(), event.getId());
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+			this.evict(event.getEntity(), event.getId());
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean requiresPostCommitHandling(EntityPersister persister) {
+			return BaseEntity.class.isAssignableFrom(persister.getMappedClass());
+		}
+		
+		/**
+		 * Evict the written entity by its ID, together with its ExternalId entry.
+		 * 
+		 * @param entity
+		 * @param id
+		 */
+		private void evict(Object entity, Object id) {
+			if (entity instanceof BaseEntity) {
+				EntityCache.this.evictCommitted(entity.getClass(), id);
+			}
+		}
+	}
+	
+	/**
+	 * Key of a cached entity, either by ID or by ExternalId.
+	 * 
+	 * @param entityClass
+	 * @param key
+	 */
+	private record EntityKey(Class<?> entityClass, Object key) {
+		
+	}
+	
+	/**
+	 * Snapshot of the persistent state of an entity, by attribute. Values are basic values, snapshots of loaded to-one
+	 * associations or {@link EntityReference} of unloaded ones. Compared by identity, as snapshots of a graph may
+	 * reference each other.
+	 * 
+	 * @param entityMetadata
+	 * @param id
+	 * @param externalId
+	 * @param values
+	 */
+	private record EntitySnapshot(EntityMetadata entityMetadata, Long id, String externalId, Map<AttributeMetadata, Object> values) {
+		
+		/**
+		 * Return the keys of the snapshot entity, by ID and by ExternalId when present.
+		 * 
+		 * @param entityClass
+		 * @return keys of the entity
+		 */
+		private List<EntityKey> keys(Class<?> entityClass) {
+			List<EntityKey> keys = new ArrayList<>(2);
+			
+			if (this.id != null) {
+				keys.add(new EntityKey(entityClass, this.id));
+			}
+			
+			if (this.externalId != null) {
+				keys.add(new EntityKey(entityClass, this.externalId));
+			}
+			
+			return keys;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object other) {
+			return this == other;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this);
+		}
+	}
+	
+	/**
+	 * Reference to an unloaded to-one association by its type and ID.
+	 * 
+	 * @param entityClass
+	 * @param id
+	 */
+	private record EntityReference(Class<?> entityClass, Object id) {
+		
+	}
+	
+}
\ No newline at end of file
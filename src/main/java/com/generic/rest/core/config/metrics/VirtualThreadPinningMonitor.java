@@ -0,0 +1,115 @@
+package com.generic.rest.core.config.metrics;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.generic.rest.core.BaseConstants.VIRTUALTHREAD;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Component responsible for exposing carrier thread pinning of virtual threads as a metric. </p>
+ * A JFR {@link RecordingStream} listens to the pinned events above the configured threshold, recording their duration in
+ * a {@link Timer}, so its count and total time show how often and how long requests blocked a carrier thread.
+ *
+ * @author leonardo.ramos
+ *
+ */
+@Component
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+	private final RecordingStream recordingStream;
+	private final Timer pinnedTimer;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param meterRegistry
+	 * @param enabled
+	 * @param threshold
+	 */
+	@Autowired
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, @Value(VIRTUALTHREAD.PINNING_METRICS_ENABLED) boolean enabled,
+			@Value(VIRTUALTHREAD.PINNING_THRESHOLD) long threshold) {
+
+		if (!enabled) {
+			this.recordingStream = null;
+			this.pinnedTimer = null;
+			return;
+		}
+
+		this.pinnedTimer = Timer.builder(VIRTUALTHREAD.PINNED_METRIC)
+				.description(VIRTUALTHREAD.PINNED_METRIC_DESCRIPTION)
+				.register(meterRegistry);
+
+		this.recordingStream = new RecordingStream();
+		this.recordingStream.enable(VIRTUALTHREAD.PINNED_EVENT)
+				.withThreshold(Duration.ofMillis(threshold))
+				.withStackTrace();
+		this.recordingStream.onEvent(VIRTUALTHREAD.PINNED_EVENT, this::record);
+		this.recordingStream.startAsync();
+	}
+
+	/**
+	 * Verify if the pinning monitor is running.
+	 *
+	 * @return true if enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return this.recordingStream != null;
+	}
+
+	/**
+	 * Record a pinned event.
+	 *
+	 * @param event
+	 */
+	private void record(RecordedEvent event) {
+		this.record(event.getDuration(), event.getStackTrace());
+	}
+
+	/**
+	 * Record a pinned duration, logging the first application frame where the virtual thread blocked.
+	 *
+	 * @param duration
+	 * @param stackTrace
+	 */
+	void record(Duration duration, RecordedStackTrace stackTrace) {
+		this.pinnedTimer.record(duration);
+
+		if (LOGGER.isDebugEnabled() && stackTrace != null) {
+			String pinnedAt = stackTrace.getFrames().stream()
+					.filter(RecordedFrame::isJavaFrame)
+					.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+					.filter(method -> !method.startsWith("java.") && !method.startsWith("jdk."))
+					.findFirst()
+					.orElse(null);
+
+			LOGGER.debug("Virtual thread pinned for [{}] at [{}]", duration, pinnedAt);
+		}
+	}
+
+	/**
+	 * Close the recording stream.
+	 */
+	@Override
+	public void destroy() {
+		if (this.recordingStream != null) {
+			this.recordingStream.close();
+		}
+	}
+
+}
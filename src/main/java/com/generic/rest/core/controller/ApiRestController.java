@@ -1,7 +1,12 @@
 package com.generic.rest.core.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,7 +14,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.generic.rest.core.BaseConstants.CONTROLLER;
+import com.generic.rest.core.BaseConstants.EXPORT;
 import com.generic.rest.core.domain.ApiResponse;
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.domain.filter.RequestFilter;
@@ -29,6 +41,8 @@ public abstract class ApiRestController<E extends BaseEntity, S extends ApiRestS
 	
 	private static final Logger LOGGER = LoggerFactory.getLogger(ApiRestController.class);
 	
+	private ObjectWriter exportWriter;
+	
 	/**
 	 * The Rest Service.
 	 * 
@@ -50,6 +64,70 @@ public abstract class ApiRestController<E extends BaseEntity, S extends ApiRestS
 		return new ResponseEntity<>(this.getService().findAll(requestFilter), HttpStatus.OK);
     }
     
+    /**
+     * Export all entities with given filter as newline delimited JSON, streaming each record as it is read from the database. 
+     * 
+     * @param requestFilter
+     * @return {@link ResponseEntity}
+     */
+    @GetMapping(value = CONTROLLER.EXPORT_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+    		@ModelAttribute("RequestFilter") RequestFilter requestFilter) {
+    	LOGGER.info("Exporting NDJSON Entity by requestFilter=[{}]", requestFilter);
+    	return ResponseEntity.ok()
+    			.contentType(MediaType.APPLICATION_NDJSON)
+    			.body(outputStream -> this.export(requestFilter, outputStream, false));
+    }
+    
+    /**
+     * Export all entities with given filter as a JSON array, streaming each record as it is read from the database. 
+     * 
+     * @param requestFilter
+     * @return {@link ResponseEntity}
+     */
+    @GetMapping(value = CONTROLLER.EXPORT_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportJson(
+    		@ModelAttribute("RequestFilter") RequestFilter requestFilter) {
+    	LOGGER.info("Exporting JSON Entity by requestFilter=[{}]", requestFilter);
+    	return ResponseEntity.ok()
+    			.contentType(MediaType.APPLICATION_JSON)
+    			.body(outputStream -> this.export(requestFilter, outputStream, true));
+    }
+    
+    /**
+     * Write all entities with given filter to the output stream, either as a JSON array or as newline delimited JSON.
+     * 
+     * @param requestFilter
+     * @param outputStream
+     * @param asArray
+     * @throws IOException
+     */
+    private void export(RequestFilter requestFilter, OutputStream outputStream, boolean asArray) throws IOException {
+    	try (SequenceWriter sequenceWriter = asArray ? 
+    			this.exportWriter.writeValuesAsArray(outputStream) : this.exportWriter.writeValues(outputStream)) {
+    		
+    		this.getService().exportAll(requestFilter, entity -> this.write(sequenceWriter, entity));
+    		
+    	} catch (UncheckedIOException e) {
+    		throw e.getCause();
+    	}
+    }
+    
+    /**
+     * Write a single entity to the export sequence.
+     * 
+     * @param sequenceWriter
+     * @param entity
+     */
+    private void write(SequenceWriter sequenceWriter, Object entity) {
+    	try {
+    		sequenceWriter.write(entity);
+    		
+    	} catch (IOException e) {
+    		throw new UncheckedIOException(e);
+    	}
+    }
+    
     /**
      * Insert operation.
      * 
@@ -63,4 +141,16 @@ public abstract class ApiRestController<E extends BaseEntity, S extends ApiRestS
 		return (ResponseEntity<E>) new ResponseEntity<>(this.getService().save(entity), HttpStatus.CREATED);
     }
     
+    /**
+     * Set the objectMapper used to build the export writer.
+     * 
+     * @param objectMapper
+     */
+    @Autowired
+    public void setObjectMapper(ObjectMapper objectMapper) {
+    	this.exportWriter = objectMapper.writer()
+    			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+    			.withRootValueSeparator(EXPORT.NDJSON_SEPARATOR);
+    }
+    
 }
\ No newline at end of file
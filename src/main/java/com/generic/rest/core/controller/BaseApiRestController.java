@@ -1,5 +1,8 @@
 package com.generic.rest.core.controller;
 
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -7,12 +10,17 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.generic.rest.core.BaseConstants.CONTROLLER;
+import com.generic.rest.core.BaseConstants.PATCH;
 import com.generic.rest.core.domain.BaseApiEntity;
+import com.generic.rest.core.domain.BulkItemResult;
 import com.generic.rest.core.exception.ApiException;
 import com.generic.rest.core.service.impl.BaseApiRestServiceImpl;
 
@@ -57,6 +65,81 @@ public abstract class BaseApiRestController<E extends BaseApiEntity, S extends B
     	LOGGER.info("Processing update of entity of externalId: [{}]", externalId);
 		return (ResponseEntity<E>) new ResponseEntity<>(this.getService().update(externalId, entity), HttpStatus.OK);
     }
+	
+	/**
+	 * Partially update entity operation from ExternalId, applying JSON Merge Patch semantics: only the given fields are
+	 * written and null values clear them.
+	 * 
+	 * @param externalId
+	 * @param patch
+	 * @return {@link ResponseEntity}
+	 * @throws ApiException
+	 */
+    @PatchMapping(value = CONTROLLER.EXTERNAL_ID_PATH, 
+			consumes = { PATCH.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE }, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<E> patch(@PathVariable(CONTROLLER.EXTERNAL_ID) String externalId, 
+    		@RequestBody Map<String, Object> patch) throws ApiException {
+    	LOGGER.info("Processing patch of fields {} of entity of externalId: [{}]", patch.keySet(), externalId);
+		return (ResponseEntity<E>) new ResponseEntity<>(this.getService().patch(externalId, patch), HttpStatus.OK);
+    }
+    
+    /**
+     * Insert entities in bulk, returning the result of each item in the order of the request.
+     * 
+     * @param entities
+     * @return {@link ResponseEntity}
+     * @throws ApiException
+     */
+    @PostMapping(value = CONTROLLER.BULK_PATH, 
+    		consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult<E>>> insertAll(@RequestBody List<E> entities) throws ApiException {
+    	LOGGER.info("Processing bulk insert of [{}] entities", entities.size());
+    	List<BulkItemResult<E>> results = this.getService().saveAll(entities);
+		return new ResponseEntity<>(results, this.getBulkStatus(results, HttpStatus.CREATED));
+    }
+    
+    /**
+     * Update entities by ExternalId in bulk, returning the result of each item in the order of the request.
+     * 
+     * @param entities
+     * @return {@link ResponseEntity}
+     * @throws ApiException
+     */
+    @PutMapping(value = CONTROLLER.BULK_PATH, 
+    		consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult<E>>> updateAll(@RequestBody List<E> entities) throws ApiException {
+    	LOGGER.info("Processing bulk update of [{}] entities", entities.size());
+    	List<BulkItemResult<E>> results = this.getService().updateAll(entities);
+		return new ResponseEntity<>(results, this.getBulkStatus(results, HttpStatus.OK));
+    }
+    
+    /**
+     * Delete, or logically delete, entities by ExternalIds in bulk.
+     * 
+     * @param externalIds
+     * @param logic
+     * @return {@link ResponseEntity} with the number of deleted entities
+     * @throws ApiException
+     */
+    @DeleteMapping(value = CONTROLLER.BULK_PATH, 
+    		consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Integer> deleteAll(@RequestBody List<String> externalIds, 
+    		@RequestParam(value = CONTROLLER.LOGIC_DELETE_PARAM, defaultValue = "false") boolean logic) throws ApiException {
+    	LOGGER.info("Processing bulk {}delete of [{}] entities", logic ? "logic " : "", externalIds.size());
+    	Integer deletedCount = logic ? this.getService().logicDeleteAll(externalIds) : this.getService().deleteAll(externalIds);
+		return new ResponseEntity<>(deletedCount, HttpStatus.OK);
+    }
+    
+    /**
+     * Return the http status of a bulk operation, given status if all items succeeded or multi status otherwise.
+     * 
+     * @param results
+     * @param status
+     * @return {@link HttpStatus}
+     */
+    private HttpStatus getBulkStatus(List<BulkItemResult<E>> results, HttpStatus status) {
+    	return results.stream().allMatch(BulkItemResult::isSuccess) ? status : HttpStatus.MULTI_STATUS;
+    }
     
     /**
      * Delete entity from ExternalId.
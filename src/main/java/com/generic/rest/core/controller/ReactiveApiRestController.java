@@ -0,0 +1,117 @@
+package com.generic.rest.core.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.generic.rest.core.BaseConstants.CONTROLLER;
+import com.generic.rest.core.domain.ApiResponse;
+import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.service.ReactiveApiRestService;
+import com.generic.rest.core.service.executor.ReactiveQueryScheduler;
+import com.generic.rest.core.service.impl.ApiRestServiceImpl;
+import com.generic.rest.core.service.impl.ReactiveApiRestServiceImpl;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non blocking alternative to {@link ApiRestController}, exposing the same {@link RequestFilter} query language with
+ * {@link Mono} and {@link Flux} return types. </p>
+ * Blocking service calls are offloaded to the {@link ReactiveQueryScheduler}, so request threads are released while the
+ * queries run, and exported records are streamed to the client as they are read from the database.
+ *
+ * @author leonardo.ramos
+ *
+ * @param <E>
+ * @param <S>
+ */
+@SuppressWarnings({ "rawtypes", "unchecked"} )
+public abstract class ReactiveApiRestController<E extends BaseEntity, S extends ApiRestServiceImpl> implements InitializingBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveApiRestController.class);
+
+	private ReactiveQueryScheduler reactiveQueryScheduler;
+	private ReactiveApiRestService<E> reactiveService;
+
+	/**
+	 * The Rest Service.
+	 *
+	 * @return S
+	 */
+	public abstract S getService();
+
+	/**
+	 * The non blocking Rest Service, wrapping {@link #getService()}.
+	 *
+	 * @return {@link ReactiveApiRestService}
+	 */
+	public ReactiveApiRestService<E> getReactiveService() {
+		return this.reactiveService;
+	}
+
+	/**
+	 * Build the non blocking Rest Service once all dependencies, including the ones of subclasses, are injected.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.reactiveService = new ReactiveApiRestServiceImpl<>(this.getService(), this.reactiveQueryScheduler);
+	}
+
+    /**
+     * Get all entities with given filter.
+     *
+     * @param requestFilter
+     * @return {@link Mono} of {@link ApiResponse}
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ApiResponse<E>> getAll(@ModelAttribute("RequestFilter") RequestFilter requestFilter) {
+    	LOGGER.info("Finding Entity reactively by requestFilter=[{}]", requestFilter);
+		return this.getReactiveService().findAll(requestFilter);
+    }
+
+    /**
+     * Export all entities with given filter as newline delimited JSON, streaming each record as it is read from the database.
+     *
+     * @param requestFilter
+     * @return {@link Flux} of entities
+     */
+    @GetMapping(value = CONTROLLER.EXPORT_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<E> exportNdjson(@ModelAttribute("RequestFilter") RequestFilter requestFilter) {
+    	LOGGER.info("Exporting NDJSON Entity reactively by requestFilter=[{}]", requestFilter);
+    	return this.getReactiveService().exportAll(requestFilter);
+    }
+
+    /**
+     * Insert operation.
+     *
+     * @param entity
+     * @return {@link Mono} of {@link ResponseEntity}
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<E>> insert(@RequestBody E entity) {
+    	LOGGER.info("Processing reactive insert of data: [{}]", entity);
+		return this.getReactiveService().save(entity)
+				.map(entitySaved -> new ResponseEntity<>(entitySaved, HttpStatus.CREATED));
+    }
+
+    /**
+     * Set the reactiveQueryScheduler.
+     *
+     * @param reactiveQueryScheduler
+     */
+    @Autowired
+    public void setReactiveQueryScheduler(ReactiveQueryScheduler reactiveQueryScheduler) {
+    	this.reactiveQueryScheduler = reactiveQueryScheduler;
+    }
+
+}
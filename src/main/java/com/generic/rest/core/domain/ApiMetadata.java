@@ -1,5 +1,9 @@
 package com.generic.rest.core.domain;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.generic.rest.core.domain.filter.CountMode;
+
 /**
  * Entity responsible for storing API response metadata for given results.
  * 
@@ -12,6 +16,15 @@ public class ApiMetadata {
 	private Integer pageOffset;
 	private Integer pageSize;
 	
+	@JsonInclude(Include.NON_NULL)
+	private String nextCursor;
+	
+	@JsonInclude(Include.NON_NULL)
+	private CountMode countMode;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Boolean hasMore;
+	
 	/**
 	 * Return the total count.
 	 * 
@@ -66,6 +79,60 @@ public class ApiMetadata {
 		this.pageSize = pageSize;
 	}
 
+	/**
+	 * Return the cursor of the next page of a keyset paginated query, or null if there is no next page.
+	 * 
+	 * @return the next cursor
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor of the next page.
+	 * 
+	 * @param nextCursor
+	 */
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * Return the {@link CountMode} that produced the total count.
+	 * 
+	 * @return the count mode
+	 */
+	public CountMode getCountMode() {
+		return countMode;
+	}
+
+	/**
+	 * Set the {@link CountMode} that produced the total count.
+	 * 
+	 * @param countMode
+	 */
+	public void setCountMode(CountMode countMode) {
+		this.countMode = countMode;
+	}
+
+	/**
+	 * Return if there are records after the current page, only set for {@link CountMode#HAS_MORE}.
+	 * 
+	 * @return has more
+	 */
+	public Boolean getHasMore() {
+		return hasMore;
+	}
+
+	/**
+	 * Set if there are records after the current page.
+	 * 
+	 * @param hasMore
+	 */
+	public void setHasMore(Boolean hasMore) {
+		this.hasMore = hasMore;
+	}
+
 	/**
 	 * Metadata toString.
 	 *
@@ -73,7 +140,8 @@ public class ApiMetadata {
 	 */
 	@Override
 	public String toString() {
-		return "ApiMetadata [totalCount=" + totalCount + ", pageOffset=" + pageOffset + ", pageSize=" + pageSize + "]";
+		return "ApiMetadata [totalCount=" + totalCount + ", pageOffset=" + pageOffset + ", pageSize=" + pageSize + ", nextCursor=" + nextCursor 
+				+ ", countMode=" + countMode + ", hasMore=" + hasMore + "]";
 	}
 	
 }
\ No newline at end of file
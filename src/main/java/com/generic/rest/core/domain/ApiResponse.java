@@ -1,5 +1,6 @@
 package com.generic.rest.core.domain;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,6 +14,21 @@ public class ApiResponse<E extends BaseEntity> {
 	private List<E> records;
 	private ApiMetadata metadata;
 	
+	/**
+	 * Default constructor.
+	 */
+	public ApiResponse() {}
+	
+	/**
+	 * Shallow copy constructor, copying the list of records while sharing the records and the metadata.
+	 * 
+	 * @param response
+	 */
+	public ApiResponse(ApiResponse<E> response) {
+		this.records = response.records != null ? new ArrayList<>(response.records) : null;
+		this.metadata = response.metadata;
+	}
+	
 	/**
 	 * Return the records.
 	 * 
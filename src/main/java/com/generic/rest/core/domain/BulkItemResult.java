@@ -0,0 +1,122 @@
+package com.generic.rest.core.domain;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Entity responsible for storing the result of a single item of a bulk write, by its index in the request.
+ * 
+ * @author leonardo.ramos
+ *
+ * @param <E>
+ */
+public class BulkItemResult<E extends BaseEntity> {
+	
+	private Integer index;
+	private Integer status;
+	
+	@JsonInclude(Include.NON_NULL)
+	private E record;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String error;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param index
+	 * @param status
+	 * @param record
+	 * @param error
+	 */
+	private BulkItemResult(Integer index, HttpStatus status, E record, String error) {
+		this.index = index;
+		this.status = status.value();
+		this.record = record;
+		this.error = error;
+	}
+	
+	/**
+	 * Build a successful item result.
+	 * 
+	 * @param <E>
+	 * @param index
+	 * @param status
+	 * @param record
+	 * @return {@link BulkItemResult}
+	 */
+	public static <E extends BaseEntity> BulkItemResult<E> success(Integer index, HttpStatus status, E record) {
+		return new BulkItemResult<>(index, status, record, null);
+	}
+	
+	/**
+	 * Build a failed item result.
+	 * 
+	 * @param <E>
+	 * @param index
+	 * @param status
+	 * @param error
+	 * @return {@link BulkItemResult}
+	 */
+	public static <E extends BaseEntity> BulkItemResult<E> failure(Integer index, HttpStatus status, String error) {
+		return new BulkItemResult<>(index, status, null, error);
+	}
+	
+	/**
+	 * Verify if the item was successfully written.
+	 * 
+	 * @return true if successful, false otherwise
+	 */
+	public boolean isSuccess() {
+		return HttpStatus.valueOf(status).is2xxSuccessful();
+	}
+	
+	/**
+	 * Return the index of the item in the request.
+	 * 
+	 * @return index
+	 */
+	public Integer getIndex() {
+		return index;
+	}
+	
+	/**
+	 * Return the http status of the item.
+	 * 
+	 * @return status
+	 */
+	public Integer getStatus() {
+		return status;
+	}
+	
+	/**
+	 * Return the written record.
+	 * 
+	 * @return record
+	 */
+	public E getRecord() {
+		return record;
+	}
+	
+	/**
+	 * Return the error message.
+	 * 
+	 * @return error
+	 */
+	public String getError() {
+		return error;
+	}
+	
+	/**
+	 * Bulk item result toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "BulkItemResult [index=" + index + ", status=" + status + ", record=" + record + ", error=" + error + "]";
+	}
+	
+}
@@ -1,6 +1,8 @@
 package com.generic.rest.core.domain.filter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Enumeration that maps aggregation functions operations.
@@ -17,6 +19,19 @@ public enum AggregateFunction {
 	
 	private final String function;
 
+	private static final Map<String, AggregateFunction> LOOKUP;
+	
+	static {
+		Map<String, AggregateFunction> aggregateFunctions = new HashMap<>();
+		
+		for (AggregateFunction aggregateFunction : values()) {
+			aggregateFunctions.putIfAbsent(aggregateFunction.name().toLowerCase(Locale.ROOT), aggregateFunction);
+			aggregateFunctions.putIfAbsent(aggregateFunction.function.toLowerCase(Locale.ROOT), aggregateFunction);
+		}
+		
+		LOOKUP = Map.copyOf(aggregateFunctions);
+	}
+	
 	/**
 	 * Constructor
 	 * 
@@ -36,17 +51,13 @@ public enum AggregateFunction {
 	}
 	
 	/**
-	 * Return {@link AggregateFunction} for given String representation.
+	 * Return {@link AggregateFunction} for given String representation, ignoring case, in constant time.
 	 * 
 	 * @param function
 	 * @return {@link AggregateFunction}
 	 */
 	public static AggregateFunction of(String function) {
-		return Arrays.stream(values())
-				.filter(af -> af.name().equalsIgnoreCase(function) || 
-						af.getFunction().equalsIgnoreCase(function))
-				.findFirst()
-				.orElse(null); 
+		return function != null ? LOOKUP.get(function.toLowerCase(Locale.ROOT)) : null;
 	}
 	
 	/**
@@ -56,8 +67,7 @@ public enum AggregateFunction {
 	 * @return true if string matches {@link AggregateFunction#SUM}, false otherwise
 	 */
 	public static boolean isSumFunction(String aggregateFunction) {
-		return aggregateFunction != null && (SUM.name().equals(aggregateFunction) || SUM.getFunction().equals(aggregateFunction) ||
-				SUM.equals(AggregateFunction.valueOf(aggregateFunction.toUpperCase())));
+		return SUM.equals(of(aggregateFunction));
 	}
 	
 	/**
@@ -67,8 +77,7 @@ public enum AggregateFunction {
 	 * @return true if string matches {@link AggregateFunction#AVG}, false otherwise
 	 */
 	public static boolean isAvgFunction(String aggregateFunction) {
-		return aggregateFunction != null && (AVG.name().equals(aggregateFunction) || AVG.getFunction().equals(aggregateFunction) ||
-				AVG.equals(AggregateFunction.valueOf(aggregateFunction.toUpperCase())));
+		return AVG.equals(of(aggregateFunction));
 	}
 	
 	/**
@@ -78,8 +87,7 @@ public enum AggregateFunction {
 	 * @return true if string matches {@link AggregateFunction#COUNT}, false otherwise
 	 */
 	public static boolean isCountFunction(String aggregateFunction) {
-		return aggregateFunction != null && (COUNT.name().equals(aggregateFunction) || COUNT.getFunction().equals(aggregateFunction) ||
-				COUNT.equals(AggregateFunction.valueOf(aggregateFunction.toUpperCase())));
+		return COUNT.equals(of(aggregateFunction));
 	}
 	
 	/**
@@ -89,8 +97,7 @@ public enum AggregateFunction {
 	 * @return true if string matches {@link AggregateFunction#COUNT_DISTINCT}, false otherwise
 	 */
 	public static boolean isCountDistinctFunction(String aggregateFunction) {
-		return aggregateFunction != null && (COUNT_DISTINCT.name().equals(aggregateFunction) || COUNT_DISTINCT.getFunction().equals(aggregateFunction) ||
-				COUNT_DISTINCT.equals(AggregateFunction.valueOf(aggregateFunction.toUpperCase())));
+		return COUNT_DISTINCT.equals(of(aggregateFunction));
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enumeration that maps how the total count of an API query is produced.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+public enum CountMode {
+	
+	EXACT("exact"), 
+	NONE("none"), 
+	ESTIMATED("estimated"), 
+	HAS_MORE("has_more");
+	
+	private final String mode;
+
+	private static final Map<String, CountMode> LOOKUP;
+	
+	static {
+		Map<String, CountMode> countModes = new HashMap<>();
+		
+		for (CountMode countMode : values()) {
+			countModes.putIfAbsent(countMode.name().toLowerCase(Locale.ROOT), countMode);
+			countModes.putIfAbsent(countMode.mode.toLowerCase(Locale.ROOT), countMode);
+		}
+		
+		LOOKUP = Map.copyOf(countModes);
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param mode
+	 */
+	CountMode(String mode) {
+		this.mode = mode;
+	}
+	
+	/**
+	 * Return the count mode String value.
+	 * 
+	 * @return the count mode
+	 */
+	public String getMode() {
+		return mode;
+	}
+	
+	/**
+	 * Return {@link CountMode} for given String representation, ignoring case, in constant time.
+	 * 
+	 * @param mode
+	 * @return {@link CountMode}
+	 */
+	public static CountMode of(String mode) {
+		return mode != null ? LOOKUP.get(mode.toLowerCase(Locale.ROOT)) : null;
+	}
+	
+}
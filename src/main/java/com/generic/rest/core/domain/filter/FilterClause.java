@@ -0,0 +1,91 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.List;
+
+/**
+ * Immutable leaf of a filter expression tree, comparing a field with a value through a {@link FilterOperator}. </p>
+ * A clause without operator keeps its raw text as field, so it can still be reported as an unknown field.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterClause implements FilterNode {
+
+	public static final String VALUE_PLACEHOLDER = "?";
+
+	private final String field;
+	private final FilterOperator filterOperator;
+	private final String value;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param field
+	 * @param filterOperator
+	 * @param value
+	 */
+	public FilterClause(String field, FilterOperator filterOperator, String value) {
+		this.field = field;
+		this.filterOperator = filterOperator;
+		this.value = value;
+	}
+
+	/**
+	 * Return the field name.
+	 *
+	 * @return field
+	 */
+	public String getField() {
+		return field;
+	}
+
+	/**
+	 * Return the {@link FilterOperator} of the clause, null if the clause has no valid operator.
+	 *
+	 * @return {@link FilterOperator}
+	 */
+	public FilterOperator getFilterOperator() {
+		return filterOperator;
+	}
+
+	/**
+	 * Return the value of the clause.
+	 *
+	 * @return value
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendTo(StringBuilder normalized, List<String> values) {
+		normalized.append(field);
+
+		if (filterOperator == null) {
+			return;
+		}
+
+		normalized.append(filterOperator.getParseableOperator());
+
+		if (values == null) {
+			normalized.append(value);
+		} else {
+			normalized.append(VALUE_PLACEHOLDER);
+			values.add(value);
+		}
+	}
+
+	/**
+	 * Filter clause toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterClause [field=" + field + ", filterOperator=" + filterOperator + ", value=" + value + "]";
+	}
+
+}
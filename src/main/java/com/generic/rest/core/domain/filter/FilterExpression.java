@@ -5,7 +5,9 @@ package com.generic.rest.core.domain.filter;
  * 
  * @author leonardo.ramos
  *
+ * @deprecated replaced by the immutable tree of {@link FilterNode} built by {@link FilterParser}
  */
+@Deprecated
 public class FilterExpression {
     
     private FilterField filterField;
@@ -5,7 +5,9 @@ package com.generic.rest.core.domain.filter;
  * 
  * @author leonardo.ramos
  *
+ * @deprecated replaced by the immutable {@link FilterClause} of {@link FilterParser}
  */
+@Deprecated
 public class FilterField {
 	
 	private String field;
@@ -0,0 +1,114 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable node of a filter expression tree joining two or more operands with the same {@link LogicOperator}. </p>
+ * {@link LogicOperator#OR} binds tighter than {@link LogicOperator#AND}, so only conjunctions within a disjunction are
+ * enclosed in parentheses on the normalized representation.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterJunction implements FilterNode {
+
+	private final LogicOperator logicOperator;
+	private final List<FilterNode> operands;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param logicOperator
+	 * @param operands
+	 */
+	private FilterJunction(LogicOperator logicOperator, List<FilterNode> operands) {
+		this.logicOperator = logicOperator;
+		this.operands = operands;
+	}
+
+	/**
+	 * Join the given operands with a {@link LogicOperator}. </p>
+	 * A single operand is returned as is, no operands return null and operands joined by the same logic operator are
+	 * flattened, so the tree never holds degenerate junctions.
+	 *
+	 * @param logicOperator
+	 * @param operands
+	 * @return {@link FilterNode}
+	 */
+	public static FilterNode of(LogicOperator logicOperator, List<FilterNode> operands) {
+		if (operands.isEmpty()) {
+			return null;
+		}
+
+		if (operands.size() == 1) {
+			return operands.getFirst();
+		}
+
+		List<FilterNode> flattenedOperands = new ArrayList<>(operands.size());
+
+		for (FilterNode operand : operands) {
+			if (operand instanceof FilterJunction filterJunction && logicOperator.equals(filterJunction.logicOperator)) {
+				flattenedOperands.addAll(filterJunction.operands);
+			} else {
+				flattenedOperands.add(operand);
+			}
+		}
+
+		return new FilterJunction(logicOperator, List.copyOf(flattenedOperands));
+	}
+
+	/**
+	 * Return the {@link LogicOperator} joining the operands.
+	 *
+	 * @return {@link LogicOperator}
+	 */
+	public LogicOperator getLogicOperator() {
+		return logicOperator;
+	}
+
+	/**
+	 * Return the operands.
+	 *
+	 * @return operands
+	 */
+	public List<FilterNode> getOperands() {
+		return operands;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendTo(StringBuilder normalized, List<String> values) {
+		for (int i = 0; i < operands.size(); i++) {
+			FilterNode operand = operands.get(i);
+			boolean grouped = LogicOperator.OR.equals(logicOperator) && operand instanceof FilterJunction;
+
+			if (i > 0) {
+				normalized.append(logicOperator.getOperator());
+			}
+
+			if (grouped) {
+				normalized.append('(');
+			}
+
+			operand.appendTo(normalized, values);
+
+			if (grouped) {
+				normalized.append(')');
+			}
+		}
+	}
+
+	/**
+	 * Filter junction toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterJunction [logicOperator=" + logicOperator + ", operands=" + operands + "]";
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.List;
+
+/**
+ * Immutable node of a filter expression tree negating its operand with {@link LogicOperator#NOT}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterNegation implements FilterNode {
+
+	private final FilterNode operand;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param operand
+	 */
+	public FilterNegation(FilterNode operand) {
+		this.operand = operand;
+	}
+
+	/**
+	 * Return the negated operand.
+	 *
+	 * @return {@link FilterNode}
+	 */
+	public FilterNode getOperand() {
+		return operand;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendTo(StringBuilder normalized, List<String> values) {
+		boolean grouped = operand instanceof FilterJunction;
+
+		normalized.append(LogicOperator.NOT.getOperator());
+
+		if (grouped) {
+			normalized.append('(');
+		}
+
+		operand.appendTo(normalized, values);
+
+		if (grouped) {
+			normalized.append(')');
+		}
+	}
+
+	/**
+	 * Filter negation toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterNegation [operand=" + operand + "]";
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.List;
+
+/**
+ * Immutable node of a filter expression tree parsed by {@link FilterParser}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public interface FilterNode {
+
+	/**
+	 * Append the normalized representation of the node, using only parseable operators and logic operators.
+	 *
+	 * @param normalized
+	 */
+	default void appendTo(StringBuilder normalized) {
+		this.appendTo(normalized, null);
+	}
+
+	/**
+	 * Append the normalized representation of the node. </p>
+	 * If values is given, the value of each clause is added to it and replaced by {@link FilterClause#VALUE_PLACEHOLDER}.
+	 *
+	 * @param normalized
+	 * @param values
+	 */
+	void appendTo(StringBuilder normalized, List<String> values);
+
+}
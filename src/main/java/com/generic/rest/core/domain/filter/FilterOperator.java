@@ -1,6 +1,8 @@
 package com.generic.rest.core.domain.filter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Enumeration that maps query filter operations.
@@ -24,6 +26,21 @@ public enum FilterOperator {
 	private final String operatorCommonAlias;
 	private final String parseableOperator;
 
+	private static final Map<String, FilterOperator> LOOKUP;
+	
+	static {
+		Map<String, FilterOperator> filterOperators = new HashMap<>();
+		
+		for (FilterOperator filterOperator : values()) {
+			filterOperators.putIfAbsent(filterOperator.name().toLowerCase(Locale.ROOT), filterOperator);
+			filterOperators.putIfAbsent(filterOperator.operatorAlias.toLowerCase(Locale.ROOT), filterOperator);
+			filterOperators.putIfAbsent(filterOperator.operatorCommonAlias.toLowerCase(Locale.ROOT), filterOperator);
+			filterOperators.putIfAbsent(filterOperator.parseableOperator.toLowerCase(Locale.ROOT), filterOperator);
+		}
+		
+		LOOKUP = Map.copyOf(filterOperators);
+	}
+	
 	/**
 	 * Constructor.
 	 * 
@@ -38,18 +55,13 @@ public enum FilterOperator {
 	}
 	
 	/**
-	 * Return {@link FilterOperator} for given String representation.
+	 * Return {@link FilterOperator} for given String representation, ignoring case, in constant time.
 	 * 
 	 * @param operator
 	 * @return {@link FilterOperator}
 	 */
 	public static FilterOperator of(String operator) {
-		return Arrays.stream(values())
-					.filter(fo -> fo.name().equalsIgnoreCase(operator) || fo.getOperatorAlias().equalsIgnoreCase(operator)
-							|| fo.getOperatorCommonAlias().equalsIgnoreCase(operator)
-							|| fo.getParseableOperator().equalsIgnoreCase(operator))
-					.findFirst()
-					.orElse(null);
+		return operator != null ? LOOKUP.get(operator.toLowerCase(Locale.ROOT)) : null;
 	}
 	
 	/**
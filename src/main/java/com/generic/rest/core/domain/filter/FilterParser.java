@@ -0,0 +1,417 @@
+package com.generic.rest.core.domain.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class responsible for parsing a query filter into an immutable tree of {@link FilterNode}. </p>
+ * The filter is scanned only once on offsets of the original String, recognizing every alias of {@link FilterOperator}
+ * and {@link LogicOperator} on the way, so each field and value is materialized only once and no intermediate copies
+ * of the filter are created. </p>
+ * Parentheses group expressions and the precedence is {@link LogicOperator#NOT}, then {@link LogicOperator#OR}, then
+ * {@link LogicOperator#AND}, e.g. <code>(age&gt;25,name=John);!active=false</code>. A value starting with a parenthesis,
+ * e.g. the list of an {@link FilterOperator#IN} clause, is scanned token by token up to the parenthesis that ends the
+ * clause, so its values may contain parentheses just like scalar values, e.g. <code>name=in=(a),b)</code>.
+ * Text that can not be parsed is kept as a clause without operator, so it is later reported as an unknown field.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterParser {
+
+	private static final String[] OPERATOR_ALIASES;
+	private static final FilterOperator[] OPERATORS;
+
+	static {
+		Map<String, FilterOperator> aliases = new LinkedHashMap<>();
+
+		for (FilterOperator filterOperator : FilterOperator.values()) {
+			aliases.putIfAbsent(filterOperator.getParseableOperator(), filterOperator);
+			aliases.putIfAbsent(filterOperator.getOperatorAlias(), filterOperator);
+			aliases.putIfAbsent(filterOperator.getOperatorCommonAlias(), filterOperator);
+		}
+
+		List<Map.Entry<String, FilterOperator>> sortedAliases = new ArrayList<>(aliases.entrySet());
+		sortedAliases.sort(Comparator.comparingInt((Map.Entry<String, FilterOperator> alias) -> alias.getKey().length()).reversed());
+
+		OPERATOR_ALIASES = sortedAliases.stream().map(Map.Entry::getKey).toArray(String[]::new);
+		OPERATORS = sortedAliases.stream().map(Map.Entry::getValue).toArray(FilterOperator[]::new);
+	}
+
+	private final String filter;
+	private final int end;
+	private int index;
+	private int groupDepth;
+
+	/**
+	 * Constructor. Skips the surrounding whitespaces and brackets of the filter.
+	 *
+	 * @param filter
+	 */
+	private FilterParser(String filter) {
+		int start = 0;
+		int filterEnd = filter.length();
+
+		while (start < filterEnd && Character.isWhitespace(filter.charAt(start))) {
+			start++;
+		}
+
+		while (filterEnd > start && Character.isWhitespace(filter.charAt(filterEnd - 1))) {
+			filterEnd--;
+		}
+
+		if (start < filterEnd && filter.charAt(start) == '[') {
+			start++;
+		}
+
+		if (filterEnd > start && filter.charAt(filterEnd - 1) == ']') {
+			filterEnd--;
+		}
+
+		this.filter = filter;
+		this.index = start;
+		this.end = filterEnd;
+	}
+
+	/**
+	 * Parse a query filter into its tree of {@link FilterNode}.
+	 *
+	 * @param filter
+	 * @return {@link FilterNode} or null if the filter has no clauses
+	 */
+	public static FilterNode parse(String filter) {
+		if (filter == null) {
+			return null;
+		}
+
+		return new FilterParser(filter).parseJunction(LogicOperator.AND);
+	}
+
+	/**
+	 * Parse a query filter and return its normalized representation, using only parseable operators and logic operators.
+	 *
+	 * @param filter
+	 * @return normalized filter, empty if the filter has no clauses
+	 */
+	public static String normalize(String filter) {
+		return normalize(parse(filter));
+	}
+
+	/**
+	 * Return the normalized representation of a parsed filter, using only parseable operators and logic operators.
+	 *
+	 * @param filterNode
+	 * @return normalized filter, empty if the filter has no clauses
+	 */
+	public static String normalize(FilterNode filterNode) {
+		if (filterNode == null) {
+			return "";
+		}
+
+		StringBuilder normalized = new StringBuilder();
+		filterNode.appendTo(normalized);
+
+		return normalized.toString();
+	}
+
+	/**
+	 * Parse the operands joined by a given {@link LogicOperator}. The operands of {@link LogicOperator#AND} are
+	 * disjunctions and the operands of {@link LogicOperator#OR} are unary expressions.
+	 *
+	 * @param logicOperator
+	 * @return {@link FilterNode}
+	 */
+	private FilterNode parseJunction(LogicOperator logicOperator) {
+		List<FilterNode> operands = new ArrayList<>();
+
+		do {
+			FilterNode operand = LogicOperator.AND.equals(logicOperator) ? this.parseJunction(LogicOperator.OR) : this.parseUnary();
+
+			if (operand != null) {
+				operands.add(operand);
+			}
+
+		} while (this.consumeLogicOperator(logicOperator));
+
+		return FilterJunction.of(logicOperator, operands);
+	}
+
+	/**
+	 * Parse a negation, a group within parentheses or a clause. Any text left before the next logic operator is parsed
+	 * as a clause without operator.
+	 *
+	 * @return {@link FilterNode}
+	 */
+	private FilterNode parseUnary() {
+		this.skipWhitespaces();
+
+		if (this.consumeNegation()) {
+			FilterNode operand = this.parseUnary();
+			return operand != null ? new FilterNegation(operand) : null;
+		}
+
+		if (this.index >= this.end || this.filter.charAt(this.index) != '(') {
+			return this.parseClause();
+		}
+
+		int groupStart = this.index++;
+		this.groupDepth++;
+
+		FilterNode group = this.parseJunction(LogicOperator.AND);
+
+		if (this.atGroupEnd()) {
+			this.index++;
+		}
+
+		this.groupDepth--;
+		this.skipWhitespaces();
+
+		if (this.index < this.end && !this.atLogicOperator() && !this.atGroupEnd()) {
+
+			while (this.index < this.end && !this.atLogicOperator() && !this.atGroupEnd()) {
+				this.index++;
+			}
+
+			return new FilterClause(this.trimmedText(groupStart, this.index), null, null);
+		}
+
+		return group;
+	}
+
+	/**
+	 * Parse a clause up to the next logic operator or the end of the filter.
+	 *
+	 * @return {@link FilterClause} or null if the clause is empty
+	 */
+	private FilterClause parseClause() {
+		int fieldStart = this.index;
+		int fieldEnd = -1;
+		FilterOperator filterOperator = null;
+
+		while (this.index < this.end && !this.atLogicOperator() && !this.atGroupEnd()) {
+			int alias = this.matchOperator();
+
+			if (alias >= 0) {
+				fieldEnd = this.index;
+				filterOperator = OPERATORS[alias];
+				this.index += OPERATOR_ALIASES[alias].length();
+				break;
+			}
+
+			this.index++;
+		}
+
+		if (filterOperator == null) {
+			String text = this.trimmedText(fieldStart, this.index);
+			return text.isEmpty() ? null : new FilterClause(text, null, null);
+		}
+
+		int valueStart = this.index;
+		this.skipWhitespaces();
+
+		if (this.index < this.end && this.filter.charAt(this.index) == '(') {
+			this.skipList();
+		}
+
+		while (this.index < this.end && !this.atLogicOperator() && !this.atGroupEnd()) {
+			this.index++;
+		}
+
+		return new FilterClause(this.trimmedText(fieldStart, fieldEnd), filterOperator, this.trimmedText(valueStart, this.index));
+	}
+
+	/**
+	 * Skip the list of values starting at the current index. The list is scanned token by token and, as in scalar values,
+	 * a closing parenthesis is part of a value unless the clause ends after it: at the end of the filter, at a group end,
+	 * at a {@link LogicOperator#AND} or at a {@link LogicOperator#OR} followed by another clause. The index is kept at
+	 * the start of the list if it is not closed.
+	 */
+	private void skipList() {
+		int listStart = this.index++;
+
+		while (this.index < this.end) {
+			if (this.filter.charAt(this.index++) == ')') {
+				int listEnd = this.index;
+				this.skipWhitespaces();
+
+				if (this.atClauseEnd()) {
+					this.index = listEnd;
+					return;
+				}
+			}
+		}
+
+		this.index = listStart;
+	}
+
+	/**
+	 * Verify if the clause ends at the current index, i.e. at the end of the filter, at a group end, at a
+	 * {@link LogicOperator#AND} or at a {@link LogicOperator#OR} followed by another clause.
+	 *
+	 * @return true if the clause ends at the current index, false otherwise
+	 */
+	private boolean atClauseEnd() {
+		if (this.index >= this.end || this.atGroupEnd() || this.logicOperatorLength(LogicOperator.AND) > 0) {
+			return true;
+		}
+
+		int orLength = this.logicOperatorLength(LogicOperator.OR);
+
+		if (orLength == 0) {
+			return false;
+		}
+
+		int clauseStart = this.index;
+		this.index += orLength;
+		this.skipWhitespaces();
+
+		boolean clause = this.index < this.end && (this.filter.charAt(this.index) == '(' || this.consumeNegation());
+
+		while (!clause && this.index < this.end && !this.atLogicOperator() && this.filter.charAt(this.index) != ')') {
+			clause = this.matchOperator() >= 0;
+			this.index++;
+		}
+
+		this.index = clauseStart;
+
+		return clause;
+	}
+
+	/**
+	 * Return the index of the longest operator alias starting at the current index, or -1 if there is none.
+	 *
+	 * @return index of the operator alias
+	 */
+	private int matchOperator() {
+		char character = this.filter.charAt(this.index);
+
+		if (character != '=' && character != '<' && character != '>' && character != '!' && character != '|') {
+			return -1;
+		}
+
+		for (int i = 0; i < OPERATOR_ALIASES.length; i++) {
+			String alias = OPERATOR_ALIASES[i];
+
+			if (this.index + alias.length() <= this.end && this.filter.regionMatches(true, this.index, alias, 0, alias.length())) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Verify if any {@link LogicOperator} starts at the current index.
+	 *
+	 * @return true if a logic operator starts at the current index, false otherwise
+	 */
+	private boolean atLogicOperator() {
+		return this.logicOperatorLength(LogicOperator.AND) > 0 || this.logicOperatorLength(LogicOperator.OR) > 0;
+	}
+
+	/**
+	 * Verify if the current index closes a group within parentheses.
+	 *
+	 * @return true if a group is closed at the current index, false otherwise
+	 */
+	private boolean atGroupEnd() {
+		return this.groupDepth > 0 && this.index < this.end && this.filter.charAt(this.index) == ')';
+	}
+
+	/**
+	 * Skip the {@link LogicOperator#NOT} operator or its alias if it starts at the current index. The alias is not
+	 * taken as negation when it is part of a {@link FilterOperator#NE} operator.
+	 *
+	 * @return true if the negation was skipped, false otherwise
+	 */
+	private boolean consumeNegation() {
+		String operatorAlias = LogicOperator.NOT.getOperatorAlias();
+
+		if (this.index + operatorAlias.length() < this.end && this.filter.startsWith(operatorAlias, this.index)
+				&& this.matchOperator() < 0) {
+
+			this.index += operatorAlias.length();
+			return true;
+		}
+
+		String operator = LogicOperator.NOT.getOperator();
+
+		if (this.index + operator.length() <= this.end && this.filter.regionMatches(true, this.index, operator, 0, operator.length())) {
+			this.index += operator.length();
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Skip the whitespaces starting at the current index.
+	 */
+	private void skipWhitespaces() {
+		while (this.index < this.end && Character.isWhitespace(this.filter.charAt(this.index))) {
+			this.index++;
+		}
+	}
+
+	/**
+	 * Skip the given {@link LogicOperator} if it starts at the current index.
+	 *
+	 * @param logicOperator
+	 * @return true if the logic operator was skipped, false otherwise
+	 */
+	private boolean consumeLogicOperator(LogicOperator logicOperator) {
+		int length = this.logicOperatorLength(logicOperator);
+		this.index += length;
+
+		return length > 0;
+	}
+
+	/**
+	 * Return the length of the given {@link LogicOperator} or its alias starting at the current index, or zero if there is none.
+	 *
+	 * @param logicOperator
+	 * @return length of the logic operator
+	 */
+	private int logicOperatorLength(LogicOperator logicOperator) {
+		if (this.index >= this.end) {
+			return 0;
+		}
+
+		String operatorAlias = logicOperator.getOperatorAlias();
+
+		if (this.filter.startsWith(operatorAlias, this.index)) {
+			return operatorAlias.length();
+		}
+
+		String operator = logicOperator.getOperator();
+
+		if (this.index + operator.length() <= this.end && this.filter.regionMatches(true, this.index, operator, 0, operator.length())) {
+			return operator.length();
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Return the text between the given offsets without its surrounding whitespaces.
+	 *
+	 * @param start
+	 * @param textEnd
+	 * @return text
+	 */
+	private String trimmedText(int start, int textEnd) {
+		while (start < textEnd && Character.isWhitespace(this.filter.charAt(start))) {
+			start++;
+		}
+
+		while (textEnd > start && Character.isWhitespace(this.filter.charAt(textEnd - 1))) {
+			textEnd--;
+		}
+
+		return this.filter.substring(start, textEnd);
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.generic.rest.core.domain.filter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Enumeration that maps filter logic operations.
@@ -11,11 +13,26 @@ import java.util.Arrays;
 public enum LogicOperator {
 	
 	OR("_or_", ","), 
-	AND("_and_", ";");
+	AND("_and_", ";"),
+	NOT("_not_", "!");
 	
 	private final String operator;
 	private final String operatorAlias;
 
+	private static final Map<String, LogicOperator> LOOKUP;
+	
+	static {
+		Map<String, LogicOperator> logicOperators = new HashMap<>();
+		
+		for (LogicOperator logicOperator : values()) {
+			logicOperators.putIfAbsent(logicOperator.operator.toLowerCase(Locale.ROOT), logicOperator);
+			logicOperators.putIfAbsent(logicOperator.operatorAlias.toLowerCase(Locale.ROOT), logicOperator);
+			logicOperators.putIfAbsent(logicOperator.name().toLowerCase(Locale.ROOT), logicOperator);
+		}
+		
+		LOOKUP = Map.copyOf(logicOperators);
+	}
+	
 	/**
 	 * Constructor.
 	 * 
@@ -27,6 +44,11 @@ public enum LogicOperator {
 		this.operatorAlias = operatorAlias;
 	}
 	
+	/**
+	 * Return the operator.
+	 * 
+	 * @return operator
+	 */
 	public String getOperator() {
 		return operator;
 	}
@@ -41,17 +63,13 @@ public enum LogicOperator {
 	}
 	
 	/**
-	 * Return {@link LogicOperator} for given String representation.
+	 * Return {@link LogicOperator} for given String representation, ignoring case, in constant time.
 	 * 
 	 * @param logicalOperator
 	 * @return {@link LogicOperator}
 	 */
 	public static LogicOperator of(String logicalOperator) {
-		return Arrays.stream(values())
-					.filter(lo -> lo.operator.equalsIgnoreCase(logicalOperator) || lo.operatorAlias.equalsIgnoreCase(logicalOperator) || 
-							lo.name().equalsIgnoreCase(logicalOperator))
-					.findFirst()
-					.orElse(null);
+		return logicalOperator != null ? LOOKUP.get(logicalOperator.toLowerCase(Locale.ROOT)) : null;
 	}
 	
 	/**
@@ -61,8 +79,7 @@ public enum LogicOperator {
 	 * @return true if string matches {@link LogicOperator#OR}, false otherwise
 	 */
 	public static boolean isOrOperator(String logicalOperator) {
-		return OR.operator.equalsIgnoreCase(logicalOperator) || OR.operatorAlias.equalsIgnoreCase(logicalOperator) || 
-				OR.name().equalsIgnoreCase(logicalOperator);
+		return OR.equals(of(logicalOperator));
 	}
 	
 	/**
@@ -72,8 +89,7 @@ public enum LogicOperator {
 	 * @return true if string matches {@link LogicOperator#AND}, false otherwise
 	 */
 	public static boolean isAndOperator(String logicalOperator) {
-		return AND.operator.equalsIgnoreCase(logicalOperator) || AND.operatorAlias.equalsIgnoreCase(logicalOperator) ||
-				AND.name().equalsIgnoreCase(logicalOperator);
+		return AND.equals(of(logicalOperator));
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.generic.rest.core.domain.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Class responsible for representing the opaque cursor of a keyset paginated query: the sort of the query
+ * and the sort key values, followed by the id, of the last returned row. </p>
+ * Cursors are exchanged with clients as URL safe Base64 encoded JSON.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+public class PageCursor {
+	
+	private static ObjectMapper mapper = new ObjectMapper();
+	
+	private String sort;
+	private List<String> values;
+	
+	/**
+	 * Default constructor.
+	 */
+	public PageCursor() {
+		
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param sort
+	 * @param values
+	 */
+	public PageCursor(String sort, List<String> values) {
+		this.sort = sort;
+		this.values = values;
+	}
+	
+	/**
+	 * Return the sort the cursor was built for.
+	 * 
+	 * @return sort
+	 */
+	public String getSort() {
+		return sort;
+	}
+	
+	/**
+	 * Set the sort the cursor was built for.
+	 * 
+	 * @param sort
+	 */
+	public void setSort(String sort) {
+		this.sort = sort;
+	}
+	
+	/**
+	 * Return the sort key values of the last row, followed by its id.
+	 * 
+	 * @return values
+	 */
+	public List<String> getValues() {
+		return values;
+	}
+	
+	/**
+	 * Set the sort key values of the last row, followed by its id.
+	 * 
+	 * @param values
+	 */
+	public void setValues(List<String> values) {
+		this.values = values;
+	}
+	
+	/**
+	 * Build a cursor from the raw sort key values of a row, converting them to the same text representation
+	 * accepted by query filters.
+	 * 
+	 * @param sort
+	 * @param keyValues
+	 * @return {@link PageCursor}
+	 */
+	public static PageCursor of(String sort, List<Object> keyValues) {
+		List<String> values = new ArrayList<>(keyValues.size());
+		
+		for (Object keyValue : keyValues) {
+			values.add(toCursorValue(keyValue));
+		}
+		
+		return new PageCursor(sort, values);
+	}
+	
+	/**
+	 * Encode the cursor as an opaque URL safe token.
+	 * 
+	 * @return encoded cursor
+	 * @throws IOException
+	 */
+	public String encode() throws IOException {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(this));
+	}
+	
+	/**
+	 * Decode a cursor previously encoded by {@link #encode()}.
+	 * 
+	 * @param cursor
+	 * @return {@link PageCursor}
+	 * @throws IOException
+	 */
+	public static PageCursor decode(String cursor) throws IOException {
+		try {
+			return mapper.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), PageCursor.class);
+		
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e);
+		}
+	}
+	
+	/**
+	 * Convert a sort key value to its text representation.
+	 * 
+	 * @param value
+	 * @return cursor value
+	 */
+	private static String toCursorValue(Object value) {
+		if (value == null) {
+			return null;
+			
+		} else if (value instanceof Calendar calendar) {
+			return String.valueOf(calendar.getTimeInMillis());
+			
+		} else if (value instanceof Date date) {
+			return String.valueOf(date.getTime());
+			
+		} else if (value instanceof Enum<?> enumValue) {
+			return enumValue.name();
+		}
+		
+		return value.toString();
+	}
+	
+	/**
+	 * Page cursor toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "PageCursor [sort=" + sort + ", values=" + values + "]";
+	}
+	
+}
@@ -1,6 +1,5 @@
 package com.generic.rest.core.domain.filter;
 
-import java.util.Arrays;
 import java.util.List;
 
 import com.generic.rest.core.util.StringParserUtils;
@@ -29,6 +28,9 @@ public class RequestFilter {
 	private String sort; 
 	private String offset;
 	private String limit;
+	private String after;
+	private String countMode;
+	private FilterNode filterNode;
 	
 	/**
 	 * Add {@link LogicOperator#AND} operator in query filter.
@@ -59,6 +61,8 @@ public class RequestFilter {
 						.append(filterValue.toString()).toString();
 			}
 		}
+		
+		this.filterNode = FilterParser.parse(this.filter);
 	}
 	
 	/**
@@ -90,6 +94,8 @@ public class RequestFilter {
 						.append(filterValue).toString();
 			}
 		}
+		
+		this.filterNode = FilterParser.parse(this.filter);
 	}
 	
 	/**
@@ -310,48 +316,28 @@ public class RequestFilter {
 	}
 
 	/**
-	 * Set the filter.
+	 * Set the filter, parsing it only once through {@link FilterParser} into its {@link FilterNode} tree and normalizing
+	 * its operator aliases from that tree.
 	 * 
 	 * @param filter
 	 */
 	public void setFilter(String filter) {
+		this.filterNode = FilterParser.parse(filter);
+		
 		if (filter != null) {
-			filter = StringParserUtils.replace(filter, new String[] {"[", "]"}, "");
-			filter = StringParserUtils.replace(filter, LogicOperator.AND.getOperatorAlias(), LogicOperator.AND.getOperator());
-			filter = StringParserUtils.replace(filter, LogicOperator.OR.getOperatorAlias(), LogicOperator.OR.getOperator());
-			
-			filter = this.parseFilterOperators(filter);
+			filter = FilterParser.normalize(this.filterNode);
 		}
 		this.filter = filter;
 	}
 	
 	/**
-	 * Normalize and parse the operators of a given text filter. </p>
-	 * Parse simple char Operators like '<', '>' and '=' for later because this special characters are within other operators like '>=' for example
-
+	 * Return the parsed {@link FilterNode} tree of the filter, kept in sync with every change of the filter so it is
+	 * parsed only once per request.
 	 * 
-	 * @param filter
-	 * @return parsed and normalized filter operator text
+	 * @return {@link FilterNode} or null if the filter has no clauses
 	 */
-	private String parseFilterOperators(String filter) {
-		FilterOperator[] operators = new FilterOperator[] { FilterOperator.EQ, FilterOperator.GT, FilterOperator.LT };
-		List<FilterOperator> simpleCharOperator = Arrays.asList(operators);
-		
-		for (FilterOperator filterOperator : FilterOperator.values()) {
-			if (!simpleCharOperator.contains(filterOperator)) {
-				filter = StringParserUtils.replace(filter, 
-						new String[] { filterOperator.getOperatorCommonAlias(), filterOperator.getOperatorAlias() }, 
-						filterOperator.getParseableOperator());
-			}
-		}
-		
-		for (FilterOperator simpleCharfilterOperator : simpleCharOperator) {
-			filter = StringParserUtils.replace(filter, 
-					new String[] { simpleCharfilterOperator.getOperatorCommonAlias(), simpleCharfilterOperator.getOperatorAlias() }, 
-					simpleCharfilterOperator.getParseableOperator());
-		}
-		
-		return filter;
+	public FilterNode getFilterNode() {
+		return filterNode;
 	}
 
 	/**
@@ -406,12 +392,12 @@ public class RequestFilter {
 	}
 	
 	/**
-	 * Return the offset for fetching operation.
+	 * Return the offset for fetching operation, which is always the default offset for keyset pagination.
 	 * 
 	 * @return offset
 	 */
 	public Integer getFetchOffset() {
-		if (offset == null || "".equals(offset)) {
+		if (offset == null || "".equals(offset) || this.isKeysetPagination()) {
 			return DEFAULT_OFFSET;
 		}
 		
@@ -482,6 +468,62 @@ public class RequestFilter {
 		}
 	}
 
+	/**
+	 * Return the keyset pagination cursor.
+	 * 
+	 * @return after
+	 */
+	public String getAfter() {
+		return after;
+	}
+	
+	/**
+	 * Set the keyset pagination cursor. An empty cursor requests the first page of a keyset paginated query.
+	 * 
+	 * @param after
+	 */
+	public void setAfter(String after) {
+		this.after = after;
+	}
+	
+	/**
+	 * Verify if the query is keyset paginated, which is the case whenever the after cursor is present, even if empty,
+	 * and the query is not an aggregation.
+	 * 
+	 * @return true if query is keyset paginated, false otherwise
+	 */
+	public boolean isKeysetPagination() {
+		return this.after != null && !this.hasValidAggregateFunction();
+	}
+
+	/**
+	 * Return the count mode parameter.
+	 * 
+	 * @return countMode
+	 */
+	public String getCountMode() {
+		return countMode;
+	}
+	
+	/**
+	 * Return the {@link CountMode} for fetching operation, {@link CountMode#EXACT} when absent or not recognized.
+	 * 
+	 * @return {@link CountMode}
+	 */
+	public CountMode getFetchCountMode() {
+		CountMode fetchCountMode = CountMode.of(this.countMode);
+		return fetchCountMode != null ? fetchCountMode : CountMode.EXACT;
+	}
+	
+	/**
+	 * Set the count mode.
+	 * 
+	 * @param countMode
+	 */
+	public void setCountMode(String countMode) {
+		this.countMode = countMode;
+	}
+
 	/**
 	 * Return sum.
 	 * 
@@ -602,7 +644,8 @@ public class RequestFilter {
 	}
 	
 	/**
-	 * return raw string with parameters from request filter. It's essentially used as key for cache.
+	 * return raw string with parameters from request filter. </p>
+	 * Cache keys are built with {@link RequestFilterKey} instead, which is insensitive to the order of filter clauses.
 	 * 
 	 * @return raw request filter
 	 */
@@ -617,7 +660,7 @@ public class RequestFilter {
 		rawFilter.append("countDistinct=[").append(this.getRawValue(this.countDistinct)).append("],");
 		rawFilter.append("groupBy=[").append(this.getRawValue(this.groupBy)).append("],");
 		rawFilter.append("sort=[").append(this.getRawValue(this.sort)).append("],");
-		rawFilter.append("offset=").append(this.getFetchOffset());
+		rawFilter.append("offset=").append(this.getFetchOffset()).append(",");
 		rawFilter.append("limit=").append(this.getFetchLimit());
 		
 		return rawFilter.toString();
@@ -645,7 +688,7 @@ public class RequestFilter {
 	public String toString() {
 		return "RequestFilter [filter=" + filter + ", projection=" + projection + ", sum=" + sum + ", avg=" + avg
 				+ ", count=" + count + ", countDistinct=" + countDistinct + ", groupBy=" + groupBy + ", sort=" + sort
-				+ ", offset=" + offset + ", limit=" + limit + "]";
+				+ ", offset=" + offset + ", limit=" + limit + ", after=" + after + ", countMode=" + countMode + "]";
 	}
 
 }
\ No newline at end of file
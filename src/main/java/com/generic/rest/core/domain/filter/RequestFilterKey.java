@@ -0,0 +1,286 @@
+package com.generic.rest.core.domain.filter;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.generic.rest.core.util.StringParserUtils;
+
+import io.micrometer.common.util.StringUtils;
+
+/**
+ * Canonical cache key of a {@link RequestFilter} for a given entity type. </p>
+ * Parameters whose order does not change the result are normalized, so semantically identical requests share the same key:
+ * the operands of every AND and OR of the filter tree are sorted and deduplicated, and projection and aggregation
+ * fields are sorted. Sort and group by keep their order, since it changes the result. The hash code is computed only once.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+public final class RequestFilterKey implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final Class<?> entityType;
+	private final String filter;
+	private final List<String> projection;
+	private final List<String> sum;
+	private final List<String> avg;
+	private final List<String> count;
+	private final List<String> countDistinct;
+	private final List<String> groupBy;
+	private final List<String> sort;
+	private final int offset;
+	private final int limit;
+	private final CountMode countMode;
+	private final String after;
+	private final int hash;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityType
+	 * @param requestFilter
+	 */
+	private RequestFilterKey(Class<?> entityType, RequestFilter requestFilter) {
+		this.entityType = entityType;
+		this.filter = canonicalFilter(requestFilter.getFilterNode());
+		this.projection = sortedFields(requestFilter.getProjection());
+		this.sum = sortedFields(requestFilter.getSum());
+		this.avg = sortedFields(requestFilter.getAvg());
+		this.count = sortedFields(requestFilter.getCount());
+		this.countDistinct = sortedFields(requestFilter.getCountDistinct());
+		this.groupBy = orderedFields(requestFilter.getGroupBy());
+		this.sort = orderedFields(requestFilter.getSort());
+		this.offset = requestFilter.getFetchOffset();
+		this.limit = requestFilter.getFetchLimit();
+		this.countMode = requestFilter.getFetchCountMode();
+		this.after = requestFilter.isKeysetPagination() ? requestFilter.getAfter() : null;
+		this.hash = this.computeHash();
+	}
+	
+	/**
+	 * Return the canonical key of a {@link RequestFilter} for a given entity type.
+	 * 
+	 * @param entityType
+	 * @param requestFilter
+	 * @return {@link RequestFilterKey}
+	 */
+	public static RequestFilterKey of(Class<?> entityType, RequestFilter requestFilter) {
+		return new RequestFilterKey(entityType, requestFilter);
+	}
+	
+	/**
+	 * Return the entity type of the key.
+	 * 
+	 * @return entity type
+	 */
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+	
+	/**
+	 * Build a new {@link RequestFilter} from the canonical parameters of the key, e.g. to reload the cached entry without
+	 * depending on the request filter the key was built from, which may have changed since.
+	 * 
+	 * @return new {@link RequestFilter} with the same key
+	 */
+	public RequestFilter toRequestFilter() {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter(filter.isEmpty() ? null : filter);
+		requestFilter.setProjection(joinedFields(projection));
+		requestFilter.setSum(joinedFields(sum));
+		requestFilter.setAvg(joinedFields(avg));
+		requestFilter.setCount(joinedFields(count));
+		requestFilter.setCountDistinct(joinedFields(countDistinct));
+		requestFilter.setGroupBy(joinedFields(groupBy));
+		requestFilter.setSort(joinedFields(sort));
+		requestFilter.setOffset(offset);
+		requestFilter.setLimit(limit);
+		requestFilter.setCountMode(countMode.getMode());
+		requestFilter.setAfter(after);
+		
+		return requestFilter;
+	}
+	
+	/**
+	 * Return the canonical representation of a parsed filter, sorting and deduplicating the operands of every
+	 * {@link FilterJunction} of the tree. Junctions and negations are enclosed in parentheses, so different groupings
+	 * never share the same representation.
+	 * 
+	 * @param filterNode
+	 * @return canonical filter
+	 */
+	private static String canonicalFilter(FilterNode filterNode) {
+		return filterNode != null ? canonicalNode(filterNode) : "";
+	}
+	
+	/**
+	 * Return the canonical representation of a {@link FilterNode}.
+	 * 
+	 * @param filterNode
+	 * @return canonical node
+	 */
+	private static String canonicalNode(FilterNode filterNode) {
+		StringBuilder canonical = new StringBuilder();
+		appendCanonicalNode(filterNode, canonical);
+		
+		return canonical.toString();
+	}
+	
+	/**
+	 * Append the canonical representation of a {@link FilterNode}. Only the operands of junctions are materialized,
+	 * since they must be sorted.
+	 * 
+	 * @param filterNode
+	 * @param canonical
+	 */
+	private static void appendCanonicalNode(FilterNode filterNode, StringBuilder canonical) {
+		if (filterNode instanceof FilterNegation filterNegation) {
+			canonical.append(LogicOperator.NOT.getOperator()).append('(');
+			appendCanonicalNode(filterNegation.getOperand(), canonical);
+			canonical.append(')');
+			
+		} else if (filterNode instanceof FilterJunction filterJunction) {
+			List<FilterNode> operands = filterJunction.getOperands();
+			String[] canonicalOperands = new String[operands.size()];
+			
+			for (int i = 0; i < canonicalOperands.length; i++) {
+				canonicalOperands[i] = canonicalNode(operands.get(i));
+			}
+			
+			Arrays.sort(canonicalOperands);
+			canonical.append('(').append(canonicalOperands[0]);
+			
+			for (int i = 1; i < canonicalOperands.length; i++) {
+				if (!canonicalOperands[i].equals(canonicalOperands[i - 1])) {
+					canonical.append(filterJunction.getLogicOperator().getOperator()).append(canonicalOperands[i]);
+				}
+			}
+			
+			canonical.append(')');
+			
+		} else {
+			filterNode.appendTo(canonical);
+		}
+	}
+	
+	/**
+	 * Split a comma separated parameter into its fields, sorted and deduplicated in place.
+	 * 
+	 * @param fields
+	 * @return sorted fields
+	 */
+	private static List<String> sortedFields(String fields) {
+		if (StringUtils.isBlank(fields)) {
+			return Collections.emptyList();
+		}
+		
+		List<String> sortedFields = StringParserUtils.splitStringList(fields, ',');
+		sortedFields.sort(null);
+		
+		for (int i = sortedFields.size() - 1; i > 0; i--) {
+			if (sortedFields.get(i).equals(sortedFields.get(i - 1))) {
+				sortedFields.remove(i);
+			}
+		}
+		
+		return sortedFields;
+	}
+	
+	/**
+	 * Split a comma separated parameter into its fields, keeping their order.
+	 * 
+	 * @param fields
+	 * @return ordered fields
+	 */
+	private static List<String> orderedFields(String fields) {
+		if (StringUtils.isBlank(fields)) {
+			return Collections.emptyList();
+		}
+		
+		return StringParserUtils.splitStringList(fields, ',');
+	}
+	
+	/**
+	 * Join fields into a comma separated parameter.
+	 * 
+	 * @param fields
+	 * @return joined fields or null if there are no fields
+	 */
+	private static String joinedFields(List<String> fields) {
+		return fields.isEmpty() ? null : String.join(",", fields);
+	}
+	
+	/**
+	 * Compute the hash code of the key without boxing its fields.
+	 * 
+	 * @return hashCode
+	 */
+	private int computeHash() {
+		int result = entityType.hashCode();
+		result = 31 * result + filter.hashCode();
+		result = 31 * result + projection.hashCode();
+		result = 31 * result + sum.hashCode();
+		result = 31 * result + avg.hashCode();
+		result = 31 * result + count.hashCode();
+		result = 31 * result + countDistinct.hashCode();
+		result = 31 * result + groupBy.hashCode();
+		result = 31 * result + sort.hashCode();
+		result = 31 * result + offset;
+		result = 31 * result + limit;
+		result = 31 * result + Objects.hashCode(countMode);
+		result = 31 * result + Objects.hashCode(after);
+		
+		return result;
+	}
+	
+	/**
+	 * Request filter key hashCode, computed once on construction.
+	 * 
+	 * @return hashCode
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+	
+	/**
+	 * Request filter key equals.
+	 * 
+	 * @param obj
+	 * @return true if both keys represent the same request, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof RequestFilterKey other) || hash != other.hash) {
+			return false;
+		}
+		
+		return entityType == other.entityType && offset == other.offset && limit == other.limit 
+				&& countMode == other.countMode && Objects.equals(after, other.after) && filter.equals(other.filter) 
+				&& projection.equals(other.projection) && sort.equals(other.sort) && groupBy.equals(other.groupBy) 
+				&& sum.equals(other.sum) && avg.equals(other.avg) && count.equals(other.count) 
+				&& countDistinct.equals(other.countDistinct);
+	}
+	
+	/**
+	 * Request filter key toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "RequestFilterKey [entityType=" + entityType.getName() + ", filter=" + filter + ", projection=" + projection 
+				+ ", sum=" + sum + ", avg=" + avg + ", count=" + count + ", countDistinct=" + countDistinct 
+				+ ", groupBy=" + groupBy + ", sort=" + sort + ", offset=" + offset + ", limit=" + limit 
+				+ ", countMode=" + countMode + ", after=" + after + "]";
+	}
+	
+}
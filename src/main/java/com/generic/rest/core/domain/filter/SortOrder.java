@@ -1,6 +1,8 @@
 package com.generic.rest.core.domain.filter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Enumeration that maps sorting data operations.
@@ -15,6 +17,19 @@ public enum SortOrder {
 	
 	private final String order;
 
+	private static final Map<String, SortOrder> LOOKUP;
+	
+	static {
+		Map<String, SortOrder> sortOrders = new HashMap<>();
+		
+		for (SortOrder sortOrder : values()) {
+			sortOrders.putIfAbsent(sortOrder.name().toLowerCase(Locale.ROOT), sortOrder);
+			sortOrders.putIfAbsent(sortOrder.order.toLowerCase(Locale.ROOT), sortOrder);
+		}
+		
+		LOOKUP = Map.copyOf(sortOrders);
+	}
+	
 	/**
 	 * Constructor.
 	 * 
@@ -34,16 +49,13 @@ public enum SortOrder {
 	}
 	
 	/**
-	 * Return {@link SortOrder} for given String representation.
+	 * Return {@link SortOrder} for given String representation, ignoring case, in constant time.
 	 * 
 	 * @param order
 	 * @return {@link SortOrder}
 	 */
 	public static SortOrder of(String order) {
-		return Arrays.stream(values())
-				.filter(so -> so.name().equalsIgnoreCase(order) || so.getOrder().equalsIgnoreCase(order))
-				.findFirst()
-				.orElse(null);
+		return order != null ? LOOKUP.get(order.toLowerCase(Locale.ROOT)) : null;
 	}
 	
 }
\ No newline at end of file
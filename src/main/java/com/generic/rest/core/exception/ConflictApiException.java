@@ -0,0 +1,36 @@
+package com.generic.rest.core.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception class for API http status 409 errors.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+public class ConflictApiException extends ApiException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param message
+	 * @param data
+	 */
+	public ConflictApiException(String message, String... data) {
+        super(HttpStatus.CONFLICT, message, data);
+    }
+
+	/**
+     * Constructor
+     * 
+     * @param message
+     * @param throwable
+     * @param data
+     */
+    public ConflictApiException(String message, Throwable throwable, String... data) {
+        super(HttpStatus.CONFLICT, message, throwable, data);
+    }
+
+}
\ No newline at end of file
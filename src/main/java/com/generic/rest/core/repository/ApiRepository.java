@@ -1,29 +1,61 @@
 package com.generic.rest.core.repository;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import com.generic.rest.core.BaseConstants.BULK;
+import com.generic.rest.core.BaseConstants.EXPORT;
 import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.BaseConstants.QUERYPLAN;
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.domain.filter.RequestFilter;
 import com.generic.rest.core.exception.BadRequestApiException;
+import com.generic.rest.core.exception.ConflictApiException;
 import com.generic.rest.core.exception.InternalErrorApiException;
 import com.generic.rest.core.exception.MapperException;
 import com.generic.rest.core.exception.NotFoundApiException;
 import com.generic.rest.core.repository.mapper.ResultMapper;
 import com.generic.rest.core.repository.mapper.impl.ApiResultMapper;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 import com.generic.rest.core.repository.query.builder.QueryBuilder;
 import com.generic.rest.core.repository.query.builder.impl.ApiQueryBuilder;
 
+import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
@@ -39,20 +71,29 @@ import jakarta.persistence.criteria.Selection;
 public class ApiRepository<E extends BaseEntity> {
 	
 	private EntityManager entityManager;
+	private EntityMetadataRegistry entityMetadataRegistry;
 	private QueryBuilder<E> queryBuilder;
 	private ResultMapper<E> resultMapper;
+	
+	@Value(EXPORT.FETCH_SIZE)
+	private int exportFetchSize;
+	
+	@Value(BULK.BATCH_SIZE)
+	private int bulkBatchSize;
 
 	/**
 	 * Constructor
 	 * 
 	 * @param entityManager
+	 * @param entityMetadataRegistry
 	 */
 	@Autowired
-	public ApiRepository(EntityManager entityManager) {
+	public ApiRepository(EntityManager entityManager, EntityMetadataRegistry entityMetadataRegistry) {
 		this.entityManager = entityManager;
+		this.entityMetadataRegistry = entityMetadataRegistry;
 		
-		this.queryBuilder = new ApiQueryBuilder<>();
-		this.resultMapper = new ApiResultMapper<>();
+		this.queryBuilder = new ApiQueryBuilder<>(entityMetadataRegistry);
+		this.resultMapper = new ApiResultMapper<>(entityMetadataRegistry);
 	}
 	
 	/**
@@ -107,6 +148,24 @@ public class ApiRepository<E extends BaseEntity> {
 	public List<E> findAll(Class<E> entityClass, RequestFilter requestFilter) 
 			throws NotFoundApiException, BadRequestApiException, InternalErrorApiException {
 		
+		return this.findAll(entityClass, requestFilter, requestFilter.getFetchLimit());
+	}
+	
+	/**
+	 * Search entities based on given {@link requestFilter}, fetching up to given limit of records instead of the
+	 * request limit, e.g. one extra record to detect whether there is a next page.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param fetchLimit
+	 * @return records of given search
+	 * @throws NotFoundApiException
+	 * @throws BadRequestApiException
+	 * @throws InternalErrorApiException
+	 */
+	public List<E> findAll(Class<E> entityClass, RequestFilter requestFilter, Integer fetchLimit) 
+			throws NotFoundApiException, BadRequestApiException, InternalErrorApiException {
+		
 		if (requestFilter.hasValidAggregateFunction()) {
 			return this.aggregate(entityClass, requestFilter);
 		}
@@ -116,6 +175,150 @@ public class ApiRepository<E extends BaseEntity> {
 		Root<?> root = query.from(entityClass);
 
 		List<Selection<Object>> projection = this.queryBuilder.getProjectionFields(requestFilter, root, entityClass);
+		this.buildSearchQuery(entityClass, requestFilter, criteriaBuilder, query, root, projection);
+		
+		try {
+		    List<Object> result = this.entityManager.createQuery(query)
+		    		.setMaxResults(fetchLimit)
+		    		.setFirstResult(requestFilter.getFetchOffset())
+		    		.getResultList();
+		    
+		    return this.resultMapper.mapResultSet(entityClass, result, projection);
+		    
+		} catch (NoResultException e) {
+			throw new NotFoundApiException(String.format(MSGERROR.ENTITIES_NOT_FOUND_ERROR, requestFilter), e);
+		
+		} catch (PersistenceException | NumberFormatException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, requestFilter), e);
+			
+		} catch (Exception e) {
+			throw new InternalErrorApiException(String.format(MSGERROR.UNEXPECTED_FETCHING_ERROR, requestFilter), e);
+		}
+	}
+	
+	/**
+	 * Stream all entities based on given {@link requestFilter} to given consumer, honouring the request limit and offset
+	 * when given. </p>
+	 * Rows are fetched from the database in batches of the configured fetch size and mapped one at a time, and the entities
+	 * loaded by the export are detached after each batch, so memory stays bounded regardless of the number of exported
+	 * records. Entities already managed by the persistence context before the export stay managed. Must be called within a
+	 * transaction, which keeps the underlying cursor open while the stream is consumed.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param consumer
+	 * @throws NotFoundApiException
+	 * @throws BadRequestApiException
+	 * @throws InternalErrorApiException
+	 */
+	public void streamAll(Class<E> entityClass, RequestFilter requestFilter, Consumer<E> consumer) 
+			throws NotFoundApiException, BadRequestApiException, InternalErrorApiException {
+		
+		if (requestFilter.hasValidAggregateFunction()) {
+			this.aggregate(entityClass, requestFilter).forEach(consumer);
+			return;
+		}
+		
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaQuery<Object> query = criteriaBuilder.createQuery(Object.class);
+		Root<?> root = query.from(entityClass);
+
+		List<Selection<Object>> projection = this.queryBuilder.getProjectionFields(requestFilter, root, entityClass);
+		List<List<AttributeMetadata>> keysetOnlyAttributes = this.queryBuilder.getKeysetOnlyAttributes(entityClass, requestFilter);
+		this.buildSearchQuery(entityClass, requestFilter, criteriaBuilder, query, root, projection);
+		
+		TypedQuery<Object> typedQuery = this.entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, this.exportFetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true);
+		
+		try (Stream<Object> result = this.limitExport(typedQuery, requestFilter).getResultStream();
+				Stream<E> entities = this.resultMapper.mapResultStream(entityClass, result, projection)) {
+			Set<Object> managed = this.getManaged();
+			Iterator<E> iterator = entities.iterator();
+			long streamed = 0;
+			
+			while (iterator.hasNext()) {
+				E entity = iterator.next();
+				this.clearAttributes(entity, keysetOnlyAttributes);
+				consumer.accept(entity);
+				
+				if (++streamed % this.exportFetchSize == 0) {
+					this.detachAllExcept(managed);
+				}
+			}
+			
+		} catch (NoResultException e) {
+			throw new NotFoundApiException(String.format(MSGERROR.ENTITIES_NOT_FOUND_ERROR, requestFilter), e);
+		
+		} catch (PersistenceException | IllegalArgumentException | MapperException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, requestFilter), e);
+		}
+	}
+	
+	/**
+	 * Return the instances currently managed by the persistence context.
+	 * 
+	 * @return identity set of managed instances
+	 */
+	private Set<Object> getManaged() {
+		SessionImplementor session = this.entityManager.unwrap(SessionImplementor.class);
+		Set<Object> managed = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+			managed.add(entry.getKey());
+		}
+		
+		return managed;
+	}
+	
+	/**
+	 * Detach the instances managed by the persistence context, except the given ones.
+	 * 
+	 * @param retained instances to keep managed
+	 */
+	private void detachAllExcept(Set<Object> retained) {
+		SessionImplementor session = this.entityManager.unwrap(SessionImplementor.class);
+		
+		for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+			if (!retained.contains(entry.getKey()) && session.contains(entry.getKey())) {
+				session.detach(entry.getKey());
+			}
+		}
+	}
+	
+	/**
+	 * Apply the limit and offset of given {@link requestFilter} to an export query when given. The limit is not bounded by
+	 * the page size limit, and both are applied after the keyset cursor, if any.
+	 * 
+	 * @param query
+	 * @param requestFilter
+	 * @return the limited query
+	 */
+	private TypedQuery<Object> limitExport(TypedQuery<Object> query, RequestFilter requestFilter) {
+		if (StringUtils.isNotBlank(requestFilter.getLimit())) {
+			query.setMaxResults(Integer.parseInt(requestFilter.getLimit().trim()));
+		}
+		
+		if (StringUtils.isNotBlank(requestFilter.getOffset())) {
+			query.setFirstResult(Integer.parseInt(requestFilter.getOffset().trim()));
+		}
+		
+		return query;
+	}
+	
+	/**
+	 * Build the selection, restrictions and orders of a search query based on given {@link requestFilter}.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param criteriaBuilder
+	 * @param query
+	 * @param root
+	 * @param projection
+	 * @throws BadRequestApiException
+	 */
+	private void buildSearchQuery(Class<E> entityClass, RequestFilter requestFilter, CriteriaBuilder criteriaBuilder,
+			CriteriaQuery<Object> query, Root<?> root, List<Selection<Object>> projection) throws BadRequestApiException {
 		
 		if (!projection.isEmpty() && (projection.size() == 1 || !this.queryBuilder.containsMultiValuedProjection(projection))) {
 			query.multiselect(projection.toArray(new Selection[]{}));
@@ -124,6 +327,11 @@ public class ApiRepository<E extends BaseEntity> {
 		}
 		
 		List<Predicate> restrictions = this.queryBuilder.getRestrictions(entityClass, requestFilter, criteriaBuilder, root); 
+		Predicate seekRestriction = this.queryBuilder.getSeekRestriction(entityClass, requestFilter, criteriaBuilder, root);
+		
+		if (seekRestriction != null) {
+			restrictions.add(seekRestriction);
+		}
 		
 		if (!restrictions.isEmpty()) {
 			query.where(restrictions.toArray(new Predicate[]{}));
@@ -134,23 +342,503 @@ public class ApiRepository<E extends BaseEntity> {
 		if (!orders.isEmpty()) {
 			query.orderBy(orders);
 		}
+	}
+	
+	/**
+	 * Persist new entities and merge existing ones using JDBC batching, flushing the persistence context once per batch of
+	 * the configured batch size. Existing entities of each batch are loaded with a single query before being merged, so
+	 * their updates are batched too. After each flush, the entities written by the batch are detached, except the ones
+	 * that were already managed by the caller, so memory stays bounded without detaching other managed entities. </p>
+	 * Inserts of entities with IDENTITY generated IDs, such as {@link BaseEntity}, are not batched by Hibernate, because
+	 * each generated ID is read right after its own INSERT statement. Only updates, and inserts of entities with sequence
+	 * or assigned IDs, are sent in JDBC batches. Must be called within a transaction.
+	 * 
+	 * @param entityClass
+	 * @param entities
+	 * @return written entities in the same order
+	 * @throws BadRequestApiException
+	 */
+	public List<E> saveInBatch(Class<E> entityClass, List<E> entities) throws BadRequestApiException {
+		Session session = this.entityManager.unwrap(Session.class);
+		Integer sessionBatchSize = session.getJdbcBatchSize();
+		List<E> written = new ArrayList<>(entities.size());
+		
+		session.setJdbcBatchSize(this.bulkBatchSize);
 		
 		try {
-		    List<Object> result = this.entityManager.createQuery(query)
-		    		.setMaxResults(requestFilter.getFetchLimit())
-		    		.setFirstResult(requestFilter.getFetchOffset())
-		    		.getResultList();
-		    
-		    return this.resultMapper.mapResultSet(entityClass, result, projection);
-		    
-		} catch (NoResultException e) {
-			throw new NotFoundApiException(String.format(MSGERROR.ENTITIES_NOT_FOUND_ERROR, requestFilter), e);
+			for (int start = 0; start < entities.size(); start += this.bulkBatchSize) {
+				List<E> batch = entities.subList(start, Math.min(start + this.bulkBatchSize, entities.size()));
+				Set<Object> managed = this.getManagedInBatch(entityClass, batch);
+				this.loadExisting(entityClass, batch);
+				
+				for (E entity : batch) {
+					if (entity.getId() == null) {
+						this.entityManager.persist(entity);
+						written.add(entity);
+					} else {
+						written.add(this.entityManager.merge(entity));
+					}
+				}
+				
+				this.entityManager.flush();
+				written.subList(start, written.size()).stream()
+						.filter(entity -> !managed.contains(entity))
+						.forEach(this.entityManager::detach);
+			}
+			
+			return written;
+			
+		} catch (PersistenceException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.BULK_WRITE_ERROR, entities.size()), e);
+			
+		} finally {
+			session.setJdbcBatchSize(sessionBatchSize);
+		}
+	}
+	
+	/**
+	 * Return the instances already managed by the persistence context for the entities of a batch, either the entities
+	 * themselves or the managed instances with the same ID.
+	 * 
+	 * @param entityClass
+	 * @param batch
+	 * @return identity set of managed instances
+	 */
+	private Set<Object> getManagedInBatch(Class<E> entityClass, List<E> batch) {
+		Set<Object> managed = Collections.newSetFromMap(new IdentityHashMap<>());
 		
-		} catch (PersistenceException | NumberFormatException e) {
-			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, requestFilter), e);
+		for (E entity : batch) {
+			if (this.entityManager.contains(entity)) {
+				managed.add(entity);
+				
+			} else if (entity.getId() != null) {
+				Object instance = this.getManagedById(entityClass, entity.getId());
+				
+				if (instance != null) {
+					managed.add(instance);
+				}
+			}
+		}
+		
+		return managed;
+	}
+	
+	/**
+	 * Update only the given attributes of the entities matching the key attribute with a single UPDATE statement, without
+	 * loading them. </p>
+	 * Only updatable attributes are accepted, values not already of the attribute type are converted from their literal
+	 * representation and null values clear the column. Managed instances of the updated entities are refreshed after the
+	 * update, so stale state is not returned afterwards. Update callbacks are not invoked by the statement, so only entities
+	 * whose metadata is statement updatable are supported, see {@link #isStatementUpdatable(Class)} and
+	 * {@link #mergeAttributes(Class, String, Object, Map)}. Must be called within a transaction.
+	 * 
+	 * @param entityClass
+	 * @param keyAttribute
+	 * @param key
+	 * @param values attribute values by attribute name
+	 * @return number of updated entities
+	 * @throws BadRequestApiException
+	 */
+	public Integer updateAttributes(Class<E> entityClass, String keyAttribute, Object key, Map<String, Object> values) 
+			throws BadRequestApiException {
+		
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaUpdate<E> update = criteriaBuilder.createCriteriaUpdate(entityClass);
+		Root<E> root = update.from(entityClass);
+		
+		for (Map.Entry<AttributeMetadata, Object> value : this.getAttributeValues(entityClass, values).entrySet()) {
+			Path<Object> path = root.get(value.getKey().getName());
 			
-		} catch (Exception e) {
-			throw new InternalErrorApiException(String.format(MSGERROR.UNEXPECTED_FETCHING_ERROR, requestFilter), e);
+			if (value.getValue() == null) {
+				Expression<?> nullValue = criteriaBuilder.nullLiteral(value.getKey().getJavaType());
+				update.<Object>set(path, nullValue);
+			} else {
+				update.set(path, value.getValue());
+			}
+		}
+		
+		update.where(criteriaBuilder.equal(root.get(keyAttribute), key));
+		
+		try {
+			List<Object> managed = this.getManagedByKey(entityClass, keyAttribute, key);
+			this.entityManager.flush();
+			int updatedCount = this.entityManager.createQuery(update).executeUpdate();
+			
+			if (updatedCount > 0) {
+				managed.forEach(this.entityManager::refresh);
+			}
+			
+			return updatedCount;
+			
+		} catch (PersistenceException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PATCH_VALUE_ERROR, values.keySet()), e);
+		}
+	}
+	
+	/**
+	 * Update only the given attributes of the entities matching the key attribute by loading them, setting the attributes
+	 * and flushing them, so their update callbacks and listeners are invoked. </p>
+	 * Accepts and converts the values like {@link #updateAttributes(Class, String, Object, Map)}, for entities which are not
+	 * statement updatable. Must be called within a transaction.
+	 * 
+	 * @param entityClass
+	 * @param keyAttribute
+	 * @param key
+	 * @param values attribute values by attribute name
+	 * @return number of updated entities
+	 * @throws BadRequestApiException
+	 */
+	public Integer mergeAttributes(Class<E> entityClass, String keyAttribute, Object key, Map<String, Object> values) 
+			throws BadRequestApiException {
+		
+		Map<AttributeMetadata, Object> attributeValues = this.getAttributeValues(entityClass, values);
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+		Root<E> root = query.from(entityClass);
+		
+		try {
+			List<E> entities = this.entityManager.createQuery(query.select(root)
+					.where(criteriaBuilder.equal(root.get(keyAttribute), key)))
+					.getResultList();
+			
+			for (E entity : entities) {
+				attributeValues.forEach((attribute, value) -> attribute.setValue(entity, value));
+			}
+			
+			this.entityManager.flush();
+			
+			return entities.size();
+			
+		} catch (PersistenceException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PATCH_VALUE_ERROR, values.keySet()), e);
+		}
+	}
+	
+	/**
+	 * Convert the given values by attribute name into values of the attribute types, accepting only updatable attributes.
+	 * 
+	 * @param entityClass
+	 * @param values
+	 * @return attribute values by attribute, in the order of the given values
+	 * @throws BadRequestApiException
+	 */
+	private Map<AttributeMetadata, Object> getAttributeValues(Class<E> entityClass, Map<String, Object> values) 
+			throws BadRequestApiException {
+		
+		EntityMetadata entityMetadata = this.entityMetadataRegistry.getEntityMetadata(entityClass);
+		Map<AttributeMetadata, Object> attributeValues = new LinkedHashMap<>();
+		
+		for (Map.Entry<String, Object> value : values.entrySet()) {
+			AttributeMetadata attribute = entityMetadata.getAttribute(value.getKey());
+			
+			if (attribute == null || !attribute.isUpdatable()) {
+				throw new BadRequestApiException(String.format(MSGERROR.PATCH_FIELD_ERROR, value.getKey()));
+			}
+			
+			attributeValues.put(attribute, this.getAttributeValue(attribute, value.getValue()));
+		}
+		
+		return attributeValues;
+	}
+	
+	/**
+	 * Write the whole updatable state of the entity matching the key attribute with a single UPDATE statement, without
+	 * checking its existence or loading it first, so missing entities are detected from the number of updated rows. </p>
+	 * Versioned entities carrying a version are only updated if their version is still the current one, and their version
+	 * is incremented by the same statement. The given entity is returned with its incremented version, without selecting
+	 * the updated row, and managed instances of the entity are refreshed instead of clearing the persistence context. The
+	 * entity is only selected again when no row is updated, to tell a stale version from a missing entity. Only entities
+	 * whose metadata is statement updatable are supported, see {@link #isStatementUpdatable(Class)}. Must be called within
+	 * a transaction.
+	 * 
+	 * @param entityClass
+	 * @param entity
+	 * @param keyAttribute
+	 * @param key
+	 * @return updated entity or null if no entity matches the key
+	 * @throws BadRequestApiException
+	 * @throws ConflictApiException
+	 */
+	public E updateEntity(Class<E> entityClass, E entity, String keyAttribute, Object key) 
+			throws BadRequestApiException, ConflictApiException {
+		
+		EntityMetadata entityMetadata = this.entityMetadataRegistry.getEntityMetadata(entityClass);
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaUpdate<E> update = criteriaBuilder.createCriteriaUpdate(entityClass);
+		Root<E> root = update.from(entityClass);
+		
+		for (AttributeMetadata attribute : entityMetadata.getAttributes().values()) {
+			if (attribute.isUpdatable()) {
+				Path<Object> path = root.get(attribute.getName());
+				Object attributeValue = attribute.getValue(entity);
+				
+				if (attributeValue == null) {
+					Expression<?> nullValue = criteriaBuilder.nullLiteral(attribute.getJavaType());
+					update.<Object>set(path, nullValue);
+				} else {
+					update.set(path, attributeValue);
+				}
+			}
+		}
+		
+		Predicate restriction = criteriaBuilder.equal(root.get(keyAttribute), key);
+		AttributeMetadata versionAttribute = entityMetadata.getVersionAttribute();
+		Object version = versionAttribute != null ? versionAttribute.getValue(entity) : null;
+		
+		if (version instanceof Number) {
+			Path<Number> versionPath = root.get(versionAttribute.getName());
+			update.set(versionPath, criteriaBuilder.sum(versionPath, 1));
+			restriction = criteriaBuilder.and(restriction, criteriaBuilder.equal(versionPath, version));
+		}
+		
+		update.where(restriction);
+		
+		try {
+			List<Object> managed = this.getManagedByKey(entityClass, keyAttribute, key);
+			this.entityManager.flush();
+			
+			if (this.entityManager.createQuery(update).executeUpdate() == 0) {
+				if (version instanceof Number && this.findByKey(entityClass, keyAttribute, key) != null) {
+					throw new ConflictApiException(String.format(MSGERROR.STALE_ENTITY_ERROR, key, version));
+				}
+				
+				return null;
+			}
+			
+			if (version instanceof Number versionNumber) {
+				versionAttribute.setValue(entity, versionAttribute.convert(String.valueOf(versionNumber.longValue() + 1)));
+			}
+			
+			managed.forEach(this.entityManager::refresh);
+			
+			return entity;
+			
+		} catch (PersistenceException | IOException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, key), e);
+		}
+	}
+	
+	/**
+	 * Verify if entities of given class can be updated by {@link #updateEntity(Class, BaseEntity, String, Object)}.
+	 * 
+	 * @param entityClass
+	 * @return true if entity is updatable by a single statement, false otherwise
+	 */
+	public boolean isStatementUpdatable(Class<E> entityClass) {
+		return this.entityMetadataRegistry.getEntityMetadata(entityClass).isStatementUpdatable();
+	}
+	
+	/**
+	 * Find the entity matching the key attribute, returning its managed instance if already loaded.
+	 * 
+	 * @param entityClass
+	 * @param keyAttribute
+	 * @param key
+	 * @return entity or null if no entity matches the key
+	 */
+	private E findByKey(Class<E> entityClass, String keyAttribute, Object key) {
+		if (BULK.ID_FIELD.equals(keyAttribute)) {
+			return this.entityManager.find(entityClass, key);
+		}
+		
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+		Root<E> root = query.from(entityClass);
+		
+		return this.entityManager.createQuery(query.select(root).where(criteriaBuilder.equal(root.get(keyAttribute), key)))
+				.setMaxResults(1)
+				.getResultStream()
+				.findFirst()
+				.orElse(null);
+	}
+	
+	/**
+	 * Return the instances managed by the persistence context of the entities matching the key attribute.
+	 * 
+	 * @param entityClass
+	 * @param keyAttribute
+	 * @param key
+	 * @return managed instances
+	 */
+	private List<Object> getManagedByKey(Class<E> entityClass, String keyAttribute, Object key) {
+		if (BULK.ID_FIELD.equals(keyAttribute)) {
+			Object instance = key instanceof Long id ? this.getManagedById(entityClass, id) : null;
+			return instance != null ? List.of(instance) : List.of();
+		}
+		
+		AttributeMetadata attribute = this.entityMetadataRegistry.getEntityMetadata(entityClass).getAttribute(keyAttribute);
+		SessionImplementor session = this.entityManager.unwrap(SessionImplementor.class);
+		List<Object> managed = new ArrayList<>();
+		
+		for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+			if (entityClass.isInstance(entry.getKey()) && attribute != null && key.equals(attribute.getValue(entry.getKey()))) {
+				managed.add(entry.getKey());
+			}
+		}
+		
+		return managed;
+	}
+	
+	/**
+	 * Return the instance managed by the persistence context of the entity with given ID.
+	 * 
+	 * @param entityClass
+	 * @param id
+	 * @return managed instance or null if not managed
+	 */
+	private Object getManagedById(Class<E> entityClass, Long id) {
+		SessionImplementor session = this.entityManager.unwrap(SessionImplementor.class);
+		EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+		
+		return session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+	}
+	
+	/**
+	 * Convert the given value into a value of the attribute type, rejecting structured values and nulls for primitive
+	 * attributes.
+	 * 
+	 * @param attribute
+	 * @param value
+	 * @return attribute value
+	 * @throws BadRequestApiException
+	 */
+	private Object getAttributeValue(AttributeMetadata attribute, Object value) throws BadRequestApiException {
+		if (value == null) {
+			if (attribute.getJavaType().isPrimitive()) {
+				throw new BadRequestApiException(String.format(MSGERROR.PATCH_VALUE_ERROR, attribute.getName()));
+			}
+			
+			return null;
+		}
+		
+		if (attribute.getJavaType().isInstance(value)) {
+			return value;
+		}
+		
+		if (value instanceof Map<?, ?> || value instanceof Collection<?>) {
+			throw new BadRequestApiException(String.format(MSGERROR.PATCH_VALUE_ERROR, attribute.getName()));
+		}
+		
+		try {
+			return attribute.convert(String.valueOf(value));
+			
+		} catch (IOException | RuntimeException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PATCH_VALUE_ERROR, attribute.getName()), e);
+		}
+	}
+	
+	/**
+	 * Load the existing entities of a batch into the persistence context with a single query.
+	 * 
+	 * @param entityClass
+	 * @param batch
+	 */
+	private void loadExisting(Class<E> entityClass, List<E> batch) {
+		List<Long> ids = batch.stream()
+				.map(BaseEntity::getId)
+				.filter(Objects::nonNull)
+				.toList();
+		
+		if (ids.isEmpty()) {
+			return;
+		}
+		
+		CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+		Root<E> root = query.from(entityClass);
+		
+		this.entityManager.createQuery(query.select(root).where(root.get(BULK.ID_FIELD).in(ids)))
+				.getResultList();
+	}
+	
+	/**
+	 * Estimate the total of entities from the database planner statistics. </p>
+	 * Estimates are only available for unfiltered queries on PostgreSQL databases whose table statistics were already
+	 * collected, otherwise null is returned so the caller can fall back to {@link #countAll(Class, RequestFilter)}.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @return estimated total of records or null if no estimate is available
+	 */
+	public Long estimateCount(Class<E> entityClass, RequestFilter requestFilter) {
+		if (StringUtils.isNotBlank(requestFilter.getFilter())) {
+			return null;
+		}
+		
+		try {
+			SessionFactoryImplementor sessionFactory = this.entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+			
+			if (!(sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect) ||
+					!(sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass) instanceof AbstractEntityPersister entityPersister)) {
+				return null;
+			}
+			
+			Number estimate = (Number) this.entityManager.createNativeQuery(QUERYPLAN.POSTGRESQL_ESTIMATED_COUNT)
+					.setParameter(1, entityPersister.getTableName())
+					.getSingleResult();
+			
+			return estimate != null && estimate.longValue() >= 0 ? estimate.longValue() : null;
+			
+		} catch (PersistenceException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Build the cursor of the page following given records of a keyset paginated {@link requestFilter}.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param records
+	 * @return encoded cursor or null if the query is not keyset paginated or there is no next page
+	 * @throws BadRequestApiException
+	 */
+	public String getNextCursor(Class<E> entityClass, RequestFilter requestFilter, List<E> records) throws BadRequestApiException {
+		if (!requestFilter.isKeysetPagination() || records.isEmpty() || records.size() < requestFilter.getFetchLimit()) {
+			return null;
+		}
+		
+		return this.queryBuilder.getNextCursor(entityClass, requestFilter, records.getLast());
+	}
+	
+	/**
+	 * Clear from given records the sort keys added to their projection only to build the cursor of the next page of a
+	 * keyset paginated query, so records only expose the requested projection. Must be called after the cursor is built.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param records
+	 * @throws BadRequestApiException
+	 */
+	public void clearKeysetFields(Class<E> entityClass, RequestFilter requestFilter, List<E> records) throws BadRequestApiException {
+		List<List<AttributeMetadata>> keysetOnlyAttributes = this.queryBuilder.getKeysetOnlyAttributes(entityClass, requestFilter);
+		
+		if (!keysetOnlyAttributes.isEmpty()) {
+			for (E entity : records) {
+				this.clearAttributes(entity, keysetOnlyAttributes);
+			}
+		}
+	}
+	
+	/**
+	 * Clear the last attribute of each given attribute path of a record, skipping paths that are not set.
+	 * 
+	 * @param entity
+	 * @param attributePaths
+	 */
+	private void clearAttributes(Object entity, List<List<AttributeMetadata>> attributePaths) {
+		for (List<AttributeMetadata> attributePath : attributePaths) {
+			Object target = entity;
+			
+			for (int i = 0; i < attributePath.size() - 1 && target != null; i++) {
+				target = attributePath.get(i).getValue(target);
+			}
+			
+			AttributeMetadata attribute = attributePath.getLast();
+			
+			if (target != null && !attribute.getJavaType().isPrimitive()) {
+				attribute.setValue(target, null);
+			}
 		}
 	}
 	
@@ -1,6 +1,8 @@
 package com.generic.rest.core.repository;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -30,8 +32,31 @@ public interface BaseApiRepository<E extends BaseApiEntity> extends BaseReposito
 	@Transactional
 	@Modifying(clearAutomatically = true)
     @Query("UPDATE #{#entityName} as E SET E.active = false, E.deleteDate = :deleteDate WHERE E.externalId = :externalId")
-    Long logicDelete(@Param("externalId") String externalId, @Param("deleteDate") Calendar deleteDate);
+    Integer logicDelete(@Param("externalId") String externalId, @Param("deleteDate") Calendar deleteDate);
 
+	/**
+	 * Soft delete entities with given ExternalIds from database in a single statement.
+	 * 
+	 * @param externalIds
+	 * @param deleteDate
+	 * @return Number of soft deleted entities.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+    @Query("UPDATE #{#entityName} as E SET E.active = false, E.deleteDate = :deleteDate WHERE E.externalId IN :externalIds")
+    Integer logicDeleteByExternalIdIn(@Param("externalIds") Collection<String> externalIds, @Param("deleteDate") Calendar deleteDate);
+	
+	/**
+	 * Delete entities with given ExternalIds from database in a single statement, without loading them.
+	 * 
+	 * @param externalIds
+	 * @return Number of deleted entities.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM #{#entityName} as E WHERE E.externalId IN :externalIds")
+	Integer deleteByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
+	
 	/**
 	 * Delete entity with given ExternalId.
 	 * 
@@ -49,4 +74,13 @@ public interface BaseApiRepository<E extends BaseApiEntity> extends BaseReposito
 	 */
 	E findOneByExternalId(String externalId);
 	
+	/**
+	 * Find the ExternalId and ID pairs of entities with given ExternalIds, without loading the entities.
+	 * 
+	 * @param externalIds
+	 * @return List of ExternalId and ID pairs
+	 */
+	@Query("SELECT E.externalId, E.id FROM #{#entityName} as E WHERE E.externalId IN :externalIds")
+	List<Object[]> findIdsByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
+	
 }
\ No newline at end of file
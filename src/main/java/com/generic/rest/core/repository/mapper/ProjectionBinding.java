@@ -0,0 +1,320 @@
+package com.generic.rest.core.repository.mapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.sqm.function.SelfRenderingSqmAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+
+import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.domain.filter.AggregateFunction;
+import com.generic.rest.core.exception.MapperException;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Class responsible for binding a single projection column of a JPA query result to the entity: its alias,
+ * its {@link AggregateFunction} when the column is an aggregation and its resolved chain of attributes from the entity root.
+ * </p>
+ * Bindings are compiled once per projection, so binding a cell only runs its setter chain, creating the missing
+ * intermediate objects on demand, without walking the {@link Path} or resolving attributes by name.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class ProjectionBinding {
+	
+	private final String alias;
+	private final AggregateFunction aggregateFunction;
+	private final boolean aggregation;
+	private final List<String> attributeNames;
+	private final AttributeMetadata[] attributes;
+	private final EntityMetadata[] nestedEntities;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param alias
+	 * @param aggregation
+	 * @param aggregateFunction
+	 * @param attributeNames
+	 * @param attributes
+	 * @param nestedEntities
+	 */
+	private ProjectionBinding(String alias, boolean aggregation, AggregateFunction aggregateFunction, List<String> attributeNames,
+			AttributeMetadata[] attributes, EntityMetadata[] nestedEntities) {
+		this.alias = alias;
+		this.aggregation = aggregation;
+		this.aggregateFunction = aggregateFunction;
+		this.attributeNames = attributeNames;
+		this.attributes = attributes;
+		this.nestedEntities = nestedEntities;
+	}
+	
+	/**
+	 * Return the alias of the projection column.
+	 * 
+	 * @return alias
+	 */
+	public String getAlias() {
+		return alias;
+	}
+	
+	/**
+	 * Verify if the projection column is an aggregation.
+	 * 
+	 * @return true if column is an aggregation, false otherwise
+	 */
+	public boolean isAggregation() {
+		return aggregation;
+	}
+	
+	/**
+	 * Return the {@link AggregateFunction} of an aggregation column, {@link AggregateFunction#COUNT} standing for
+	 * both count and count distinct, or null if the column is not an aggregation or its function is not supported.
+	 * 
+	 * @return {@link AggregateFunction}
+	 */
+	public AggregateFunction getAggregateFunction() {
+		return aggregateFunction;
+	}
+	
+	/**
+	 * Return the chain of attribute names from the entity root to the projected attribute.
+	 * 
+	 * @return attribute names
+	 */
+	public List<String> getAttributeNames() {
+		return attributeNames;
+	}
+	
+	/**
+	 * Bind a cell value into the entity: aggregation values are added to the entity aggregations while field
+	 * values are set through the attribute chain, creating the missing intermediate objects.
+	 * 
+	 * @param entity
+	 * @param value
+	 * @throws MapperException
+	 */
+	public void bind(BaseEntity entity, Object value) {
+		if (!this.aggregation) {
+			this.bindField(entity, value);
+			
+		} else if (this.aggregateFunction != null) {
+			
+			switch (this.aggregateFunction) {
+				case SUM:
+					entity.addSum(this.mapAggregationField(getDecimalValue(value)));
+					break;
+				case AVG:
+					entity.addAvg(this.mapAggregationField(getDecimalValue(value)));
+					break;
+				case COUNT:
+				case COUNT_DISTINCT:
+				default:
+					entity.addCount(this.mapAggregationField(value));
+					break;
+			}
+		}
+	}
+	
+	/**
+	 * Set a field value through the attribute chain, reusing the intermediate objects already set by previous columns.
+	 * 
+	 * @param entity
+	 * @param value
+	 */
+	private void bindField(Object entity, Object value) {
+		int lastIndex = this.attributes.length - 1;
+		Object currentObject = entity;
+		
+		for (int i = 0; i < lastIndex; i++) {
+			AttributeMetadata attribute = this.attributes[i];
+			Object nestedObject = attribute.isCollection() ? null : attribute.getValue(currentObject);
+			
+			if (nestedObject == null) {
+				nestedObject = this.nestedEntities[i].newInstance();
+				attribute.assignValue(currentObject, nestedObject);
+			}
+			
+			currentObject = nestedObject;
+		}
+		
+		if (lastIndex >= 0) {
+			this.attributes[lastIndex].assignValue(currentObject, value);
+		}
+	}
+	
+	/**
+	 * Build a map that represents an aggregation field and value.
+	 * 
+	 * @param fieldData
+	 * @return Map that represents an aggregation field and value.
+	 */
+	private Map<String, Object> mapAggregationField(Object fieldData) {
+		Map<String, Object> aggregation = new HashMap<>();
+		
+		for (int i = this.attributeNames.size() - 1; i >= 0; i--) {
+			aggregation = new HashMap<>();
+			aggregation.put(this.attributeNames.get(i), fieldData);
+			
+			fieldData = aggregation;
+		}
+		
+		return aggregation;
+	}
+	
+	/**
+	 * Return sum and avg aggregation values, converting {@link Double} results into {@link BigDecimal}.
+	 * 
+	 * @param value
+	 * @return aggregation value
+	 */
+	private static Object getDecimalValue(Object value) {
+		if (value != null && value.getClass().equals(Double.class)) {
+			return BigDecimal.valueOf((Double) value);
+		}
+		return value;
+	}
+	
+	/**
+	 * Compile the bindings of every column of a given projection.
+	 * 
+	 * @param <X>
+	 * @param entityMetadataRegistry
+	 * @param entityClass
+	 * @param projection
+	 * @return List of {@link ProjectionBinding}
+	 * @throws MapperException
+	 */
+	public static <X extends Object> List<ProjectionBinding> of(EntityMetadataRegistry entityMetadataRegistry, Class<?> entityClass, 
+			List<Selection<X>> projection) {
+		
+		if (projection == null || projection.isEmpty()) {
+			return Collections.emptyList();
+		}
+		
+		List<ProjectionBinding> bindings = new ArrayList<>(projection.size());
+		
+		for (Selection<X> selection : projection) {
+			bindings.add(of(entityMetadataRegistry, entityClass, selection));
+		}
+		
+		return Collections.unmodifiableList(bindings);
+	}
+	
+	/**
+	 * Compile the binding of a single projection column.
+	 * 
+	 * @param entityMetadataRegistry
+	 * @param entityClass
+	 * @param selection
+	 * @return {@link ProjectionBinding}
+	 * @throws MapperException
+	 */
+	public static ProjectionBinding of(EntityMetadataRegistry entityMetadataRegistry, Class<?> entityClass, Selection<?> selection) {
+		if (selection instanceof SelfRenderingSqmAggregateFunction aggregationFunction) {
+			return new ProjectionBinding(selection.getAlias(), true, getAggregateFunction(aggregationFunction.getFunctionName()),
+					getAttributeNames(entityClass, getAggregationPath(aggregationFunction)), new AttributeMetadata[0], new EntityMetadata[0]);
+		}
+		
+		List<String> attributeNames = getAttributeNames(entityClass, (Path<Object>) selection);
+		AttributeMetadata[] attributes = new AttributeMetadata[attributeNames.size()];
+		EntityMetadata[] nestedEntities = new EntityMetadata[attributeNames.size()];
+		EntityMetadata currentEntity = entityMetadataRegistry.getEntityMetadata(entityClass);
+		
+		for (int i = 0; i < attributes.length; i++) {
+			attributes[i] = currentEntity.getAttribute(attributeNames.get(i));
+			
+			if (attributes[i] == null) {
+				throw new MapperException(String.format("Attribute %s not found in %s", attributeNames.get(i), currentEntity.getJavaType().getName()));
+			}
+			
+			if (i < attributes.length - 1) {
+				currentEntity = entityMetadataRegistry.getEntityMetadata(attributes[i].getTargetType());
+				nestedEntities[i] = currentEntity;
+			}
+		}
+		
+		return new ProjectionBinding(selection.getAlias(), false, null, attributeNames, attributes, nestedEntities);
+	}
+	
+	/**
+	 * Return the supported {@link AggregateFunction} of a given JPA function name.
+	 * 
+	 * @param functionName
+	 * @return {@link AggregateFunction}
+	 */
+	private static AggregateFunction getAggregateFunction(String functionName) {
+		AggregateFunction aggregateFunction = AggregateFunction.of(functionName);
+		
+		if (aggregateFunction == null) {
+			return null;
+		}
+		
+		return switch (aggregateFunction) {
+			case COUNT, COUNT_DISTINCT -> AggregateFunction.COUNT;
+			case SUM, AVG -> aggregateFunction;
+		};
+	}
+	
+	/**
+	 * Return the respective path {@link SqmBasicValuedSimplePath} for a given aggregation. </p>
+	 * JPA returns different data structure for count distinct results.
+	 * 
+	 * @param aggregationFunction
+	 * @return {@link SqmBasicValuedSimplePath}
+	 */
+	private static SqmBasicValuedSimplePath<Object> getAggregationPath(SelfRenderingSqmAggregateFunction aggregationFunction) {
+		Object aggregationData = aggregationFunction.getArguments().getFirst();
+
+		if (aggregationData instanceof SqmBasicValuedSimplePath) {
+			return (SqmBasicValuedSimplePath<Object>) aggregationData;
+		} 
+
+		return (SqmBasicValuedSimplePath<Object>) ((SqmDistinct<Object>) aggregationData).getExpression();
+	}
+	
+	/**
+	 * Build the chain of attribute names from the entity root to a given {@link Path}.
+	 * 
+	 * @param entityClass
+	 * @param attributePath
+	 * @return attribute names
+	 */
+	private static List<String> getAttributeNames(Class<?> entityClass, Path<Object> attributePath) {
+		List<String> attributeNames = new ArrayList<>();
+		
+		do {
+			if (!entityClass.equals(attributePath.getJavaType())) {
+				attributeNames.addFirst(attributePath.getAlias());
+			}
+			
+			attributePath = (Path<Object>) attributePath.getParentPath();
+			
+		} while (attributePath.getParentPath() != null);
+		
+		return List.copyOf(attributeNames);
+	}
+	
+	/**
+	 * Projection binding toString.
+	 * 
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "ProjectionBinding [alias=" + alias + ", aggregateFunction=" + aggregateFunction + ", attributeNames=" + attributeNames + "]";
+	}
+
+}
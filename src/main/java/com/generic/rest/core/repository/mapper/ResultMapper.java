@@ -1,6 +1,7 @@
 package com.generic.rest.core.repository.mapper;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.MapperException;
@@ -14,7 +15,6 @@ import jakarta.persistence.criteria.Selection;
  *
  * @param <E>
  */
-@FunctionalInterface
 public interface ResultMapper<E extends BaseEntity> {
 	
 	/**
@@ -28,7 +28,18 @@ public interface ResultMapper<E extends BaseEntity> {
 	 * @throws ReflectiveOperationException
 	 */
 	<X extends Object> List<E> mapResultSet(Class<E> entityClass, List<Object> result, List<Selection<X>> projection) throws MapperException;
-
 	
+	/**
+	 * Lazily map a streamed result from JPA query, one row at a time as the stream is consumed.
+	 * 
+	 * @param <X>
+	 * @param entityClass
+	 * @param result
+	 * @param projection
+	 * @return Stream of mapped entities
+	 * @throws MapperException
+	 */
+	<X extends Object> Stream<E> mapResultStream(Class<E> entityClass, Stream<Object> result, List<Selection<X>> projection) throws MapperException;
+
 
 }
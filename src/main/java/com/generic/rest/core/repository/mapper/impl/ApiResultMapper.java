@@ -2,11 +2,16 @@ package com.generic.rest.core.repository.mapper.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.MapperException;
 import com.generic.rest.core.repository.mapper.EntityMapper;
+import com.generic.rest.core.repository.mapper.ProjectionBinding;
 import com.generic.rest.core.repository.mapper.ResultMapper;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 
 import jakarta.persistence.criteria.Selection;
 
@@ -20,6 +25,23 @@ import jakarta.persistence.criteria.Selection;
  */
 public class ApiResultMapper<E extends BaseEntity> implements ResultMapper<E> {
 	
+	private EntityMetadataRegistry entityMetadataRegistry;
+	private EntityMapper<E> entityObjectValuesArrayMapper;
+	private EntityMapper<E> entityObjectMapper;
+	private EntityMapper<E> entityValuesMapper;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityMetadataRegistry
+	 */
+	public ApiResultMapper(EntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+		this.entityObjectValuesArrayMapper = new EntityObjectValuesArrayMapper<>(entityMetadataRegistry);
+		this.entityObjectMapper = new EntityObjectMapper<>(entityMetadataRegistry);
+		this.entityValuesMapper = new EntityValuesMapper<>(entityMetadataRegistry);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -29,28 +51,64 @@ public class ApiResultMapper<E extends BaseEntity> implements ResultMapper<E> {
 			List<Object> result, 
 			List<Selection<X>> projection) throws MapperException {
 		
-		List<E> entities = new ArrayList<>();
+		List<E> entities = new ArrayList<>(result.size());
+		
+		if (result.isEmpty()) {
+			return entities;
+		}
+		
+		List<ProjectionBinding> bindings = ProjectionBinding.of(this.entityMetadataRegistry, entityClass, projection);
+		EntityMapper<E> mapper = null;
 		
 		for (Object row : result) {
 			
 			if (row != null) {
-				EntityMapper<E> mapper;
 				
-				if (Object[].class.equals(row.getClass())) {
-					mapper = new EntityObjectValuesArrayMapper<>();
-					
-				} else if (entityClass.equals(row.getClass())) {
-					mapper = new EntityObjectMapper<>();
-					
-				} else {
-					mapper = new EntityValuesMapper<>();
+				if (mapper == null) {
+					mapper = this.getEntityMapper(entityClass, row);
 				}
 				
-				entities.add(mapper.mapEntity(entityClass, row, projection));
+				entities.add(mapper.mapEntity(entityClass, row, bindings));
 			}
 		}
 		
 		return entities;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <X extends Object> Stream<E> mapResultStream(
+			Class<E> entityClass, 
+			Stream<Object> result, 
+			List<Selection<X>> projection) throws MapperException {
+		
+		List<ProjectionBinding> bindings = ProjectionBinding.of(this.entityMetadataRegistry, entityClass, projection);
+		AtomicReference<EntityMapper<E>> mapper = new AtomicReference<>();
+		
+		return result
+				.filter(Objects::nonNull)
+				.map(row -> mapper.updateAndGet(current -> current != null ? current : this.getEntityMapper(entityClass, row))
+						.mapEntity(entityClass, row, bindings));
+	}
+	
+	/**
+	 * Return the {@link EntityMapper} for the shape of the rows of a result set, which is the same for all of its rows.
+	 * 
+	 * @param entityClass
+	 * @param row
+	 * @return {@link EntityMapper}
+	 */
+	private EntityMapper<E> getEntityMapper(Class<E> entityClass, Object row) {
+		if (Object[].class.equals(row.getClass())) {
+			return this.entityObjectValuesArrayMapper;
+			
+		} else if (entityClass.equals(row.getClass())) {
+			return this.entityObjectMapper;
+		}
+		
+		return this.entityValuesMapper;
+	}
+	
 }
\ No newline at end of file
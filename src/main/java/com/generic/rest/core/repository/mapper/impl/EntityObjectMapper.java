@@ -1,15 +1,14 @@
 package com.generic.rest.core.repository.mapper.impl;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.util.List;
 
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.MapperException;
 import com.generic.rest.core.repository.mapper.EntityMapper;
-import com.generic.rest.core.util.ReflectionUtils;
-
-import jakarta.persistence.criteria.Selection;
+import com.generic.rest.core.repository.mapper.ProjectionBinding;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 
 /**
  * Implementation of interface {@link EntityMapper}, responsible for mapping JPA Object result rows
@@ -21,53 +20,64 @@ import jakarta.persistence.criteria.Selection;
  */
 @SuppressWarnings("unchecked")
 public class EntityObjectMapper<E extends BaseEntity> implements EntityMapper<E> {
+
+	private EntityMetadataRegistry entityMetadataRegistry;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityMetadataRegistry
+	 */
+	public EntityObjectMapper(EntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
 	
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public <X extends Object> E mapEntity(Class<E> entityClass, Object row, List<Selection<X>> projection) throws MapperException {
-		try {
-			
-			E entity = (E) row;
-			
-			if (projection == null || projection.isEmpty()) {
-				return entity;
-			}
-			
-			Constructor<?> constructor = entityClass.getConstructor();
-			E object = (E) constructor.newInstance();
+	public EntityMetadataRegistry getEntityMetadataRegistry() {
+		return entityMetadataRegistry;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E mapEntity(Class<E> entityClass, Object row, List<ProjectionBinding> bindings) throws MapperException {
+		E entity = (E) row;
+		
+		if (bindings == null || bindings.isEmpty()) {
+			return entity;
+		}
+		
+		EntityMetadata entityMetadata = this.entityMetadataRegistry.getEntityMetadata(entityClass);
+		E object = (E) entityMetadata.newInstance();
+		
+		for (AttributeMetadata attribute : entityMetadata.getAttributes().values()) {
 			
-			for (Field field : entityClass.getDeclaredFields()) {
-				ReflectionUtils.makeAccessible(field);
-				
-				if (this.isInProjection(field.getName(), projection)) {
-					ReflectionUtils.setField(field, object, field.get(entity));
-				}
+			if (this.isInProjection(attribute.getName(), bindings)) {
+				attribute.setValue(object, attribute.getValue(entity));
 			}
-			
-			return object;
-			
-		} catch (ReflectiveOperationException e) {
-			throw new MapperException(e);
 		}
+		
+		return object;
 	}
 	
 	/**
-	 * Verify if fieldName is list of {@link Selection} projection.
+	 * Verify if fieldName is in list of {@link ProjectionBinding} projection.
 	 * 
-	 * @param <X>
 	 * @param fieldName
-	 * @param projection
+	 * @param bindings
 	 * @return true if fieldName is in projection false otherwise
 	 */
-	private <X extends Object> boolean isInProjection(String fieldName, List<Selection<X>> projection) {
-		if (projection == null || projection.isEmpty()) {
+	private boolean isInProjection(String fieldName, List<ProjectionBinding> bindings) {
+		if (bindings == null || bindings.isEmpty()) {
 			return false;
 		}
 		
-		for (Selection<? extends Object> projectionField : projection) {
-			if (fieldName.equals(projectionField.getAlias())) {
+		for (ProjectionBinding binding : bindings) {
+			if (fieldName.equals(binding.getAlias())) {
 				return true;
 			}
 		}
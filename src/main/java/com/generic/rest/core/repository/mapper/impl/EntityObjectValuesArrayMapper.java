@@ -1,13 +1,12 @@
 package com.generic.rest.core.repository.mapper.impl;
 
-import java.lang.reflect.Constructor;
 import java.util.List;
 
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.MapperException;
 import com.generic.rest.core.repository.mapper.EntityMapper;
-
-import jakarta.persistence.criteria.Selection;
+import com.generic.rest.core.repository.mapper.ProjectionBinding;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 
 /**
  * Implementation of interface {@link EntityMapper}, responsible for mapping JPA Object result rows
@@ -20,26 +19,38 @@ import jakarta.persistence.criteria.Selection;
 @SuppressWarnings("unchecked")
 public class EntityObjectValuesArrayMapper<E extends BaseEntity> implements EntityMapper<E> {
 
+	private EntityMetadataRegistry entityMetadataRegistry;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityMetadataRegistry
+	 */
+	public EntityObjectValuesArrayMapper(EntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EntityMetadataRegistry getEntityMetadataRegistry() {
+		return entityMetadataRegistry;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public <X extends Object> E mapEntity(Class<E> entityClass, Object row, List<Selection<X>> projection) throws MapperException {
-		try {
-			Object[] fieldData = (Object[]) row;
-			
-			Constructor<?> constructor = entityClass.getConstructor();
-			E object = (E) constructor.newInstance();
-			
-			for (int i = 0; i < fieldData.length; i++) {
-				this.mapProjectionPath(entityClass, projection, fieldData[i], object, i);
-			}
-			
-			return object;
-			
-		} catch (ReflectiveOperationException e) {
-			throw new MapperException(e);
+	public E mapEntity(Class<E> entityClass, Object row, List<ProjectionBinding> bindings) throws MapperException {
+		Object[] fieldData = (Object[]) row;
+		E object = (E) this.entityMetadataRegistry.getEntityMetadata(entityClass).newInstance();
+		
+		for (int i = 0; i < fieldData.length; i++) {
+			this.mapProjectionPath(bindings, fieldData[i], object, i);
 		}
+		
+		return object;
 	}
 	
 }
@@ -1,13 +1,12 @@
 package com.generic.rest.core.repository.mapper.impl;
 
-import java.lang.reflect.Constructor;
 import java.util.List;
 
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.MapperException;
 import com.generic.rest.core.repository.mapper.EntityMapper;
-
-import jakarta.persistence.criteria.Selection;
+import com.generic.rest.core.repository.mapper.ProjectionBinding;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 
 /**
  * Implementation of interface {@link EntityMapper}, responsible for mapping JPA Object result rows
@@ -22,22 +21,35 @@ public class EntityValuesMapper<E extends BaseEntity> implements EntityMapper<E>
 
 	private static final int ROOT_PROJECTION_FIELD = 0;
 
+	private EntityMetadataRegistry entityMetadataRegistry;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityMetadataRegistry
+	 */
+	public EntityValuesMapper(EntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EntityMetadataRegistry getEntityMetadataRegistry() {
+		return entityMetadataRegistry;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public <X extends Object> E mapEntity(Class<E> entityClass, Object row, List<Selection<X>> projection) throws MapperException {
-		try {
-			Constructor<?> constructor = entityClass.getConstructor();
-			E object = (E) constructor.newInstance();
-			
-			this.mapProjectionPath(entityClass, projection, row, object, ROOT_PROJECTION_FIELD);
-			
-			return object;
-			
-		} catch (ReflectiveOperationException e) {
-			throw new MapperException(e);
-		} 
+	public E mapEntity(Class<E> entityClass, Object row, List<ProjectionBinding> bindings) throws MapperException {
+		E object = (E) this.entityMetadataRegistry.getEntityMetadata(entityClass).newInstance();
+		
+		this.mapProjectionPath(bindings, row, object, ROOT_PROJECTION_FIELD);
+		
+		return object;
 	}
 
 }
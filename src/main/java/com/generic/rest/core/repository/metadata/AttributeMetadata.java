@@ -0,0 +1,328 @@
+package com.generic.rest.core.repository.metadata;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import com.generic.rest.core.exception.MapperException;
+import com.generic.rest.core.util.codec.ValueCodec;
+
+import io.micrometer.common.util.StringUtils;
+
+/**
+ * Class responsible for holding the resolved metadata of a single entity attribute: its name, Java types,
+ * {@link ValueCodec} and accessor handles.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class AttributeMetadata {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final String name;
+	private final Field field;
+	private final Class<?> javaType;
+	private final Class<?> targetType;
+	private final boolean collection;
+	private final boolean persistent;
+	private final boolean updatable;
+	private final boolean nullable;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+	private final Supplier<Collection<Object>> collectionFactory;
+	private final ValueCodec<?> valueCodec;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param field
+	 * @param targetType
+	 * @param persistent
+	 * @param updatable
+	 * @param nullable
+	 * @param valueCodec
+	 */
+	AttributeMetadata(Field field, Class<?> targetType, boolean persistent, boolean updatable, boolean nullable,
+			ValueCodec<?> valueCodec) {
+		this.name = field.getName();
+		this.field = field;
+		this.javaType = field.getType();
+		this.targetType = targetType;
+		this.collection = Collection.class.isAssignableFrom(field.getType());
+		this.persistent = persistent;
+		this.updatable = updatable;
+		this.nullable = nullable;
+		this.field.trySetAccessible();
+		this.getter = createGetter(field);
+		this.setter = createSetter(field);
+		this.collectionFactory = this.collection ? createCollectionFactory(field.getType()) : null;
+		this.valueCodec = valueCodec;
+	}
+
+	/**
+	 * Return the attribute name.
+	 *
+	 * @return name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Return the attribute {@link Field}.
+	 *
+	 * @return field
+	 */
+	public Field getField() {
+		return field;
+	}
+
+	/**
+	 * Return the declared Java type of the attribute.
+	 *
+	 * @return Java type
+	 */
+	public Class<?> getJavaType() {
+		return javaType;
+	}
+
+	/**
+	 * Return the type used to navigate into the attribute, which is the element type for collection attributes.
+	 *
+	 * @return target type
+	 */
+	public Class<?> getTargetType() {
+		return targetType;
+	}
+
+	/**
+	 * Verify if the attribute is a collection.
+	 *
+	 * @return true if attribute is a collection, false otherwise
+	 */
+	public boolean isCollection() {
+		return collection;
+	}
+
+	/**
+	 * Verify if the attribute is mapped by the JPA metamodel.
+	 *
+	 * @return true if attribute is persistent, false otherwise
+	 */
+	public boolean isPersistent() {
+		return persistent;
+	}
+
+	/**
+	 * Verify if the attribute is a basic persistent column that may be written by a partial update, which excludes
+	 * identifiers, versions, associations and collections.
+	 *
+	 * @return true if attribute is updatable, false otherwise
+	 */
+	public boolean isUpdatable() {
+		return updatable;
+	}
+
+	/**
+	 * Verify if the attribute may hold null, which excludes primitives, identifiers, versions and non optional columns.
+	 *
+	 * @return true if attribute is nullable, false otherwise
+	 */
+	public boolean isNullable() {
+		return nullable;
+	}
+
+	/**
+	 * Return the getter handle of type (Object)Object.
+	 *
+	 * @return getter
+	 */
+	public MethodHandle getGetter() {
+		return getter;
+	}
+
+	/**
+	 * Return the setter handle of type (Object,Object)void.
+	 *
+	 * @return setter
+	 */
+	public MethodHandle getSetter() {
+		return setter;
+	}
+
+	/**
+	 * Read the attribute value of given target object.
+	 *
+	 * @param target
+	 * @return attribute value
+	 * @throws MapperException
+	 */
+	public Object getValue(Object target) {
+		try {
+			return this.getter.invokeExact(target);
+
+		} catch (Throwable e) {
+			throw new MapperException(e);
+		}
+	}
+
+	/**
+	 * Set the attribute value of given target object.
+	 *
+	 * @param target
+	 * @param value
+	 * @throws MapperException
+	 */
+	public void setValue(Object target, Object value) {
+		try {
+			this.setter.invokeExact(target, value);
+
+		} catch (Throwable e) {
+			throw new MapperException(e);
+		}
+	}
+
+	/**
+	 * Set the attribute value of given target object or, for collection attributes, add the value to the
+	 * existing collection, creating the collection when it is not set yet.
+	 *
+	 * @param target
+	 * @param value
+	 * @throws MapperException
+	 */
+	@SuppressWarnings("unchecked")
+	public void assignValue(Object target, Object value) {
+		if (!this.collection) {
+			this.setValue(target, value);
+			return;
+		}
+
+		Collection<Object> values = (Collection<Object>) this.getValue(target);
+
+		if (values == null) {
+			values = this.collectionFactory.get();
+			this.setValue(target, values);
+		}
+
+		values.add(value);
+	}
+
+	/**
+	 * Convert a filter literal into a value of the attribute type with its {@link ValueCodec}. Blank literals are
+	 * returned as they are.
+	 *
+	 * @param value
+	 * @return converted value
+	 * @throws IOException
+	 */
+	public Object convert(String value) throws IOException {
+		if (StringUtils.isBlank(value)) {
+			return value;
+		}
+
+		return this.valueCodec.decode(value);
+	}
+
+	/**
+	 * Convert a list of filter literals into values of the attribute type.
+	 *
+	 * @param values
+	 * @return converted values
+	 * @throws IOException
+	 */
+	public List<Object> convert(List<String> values) throws IOException {
+		List<Object> convertedValues = new ArrayList<>(values.size());
+
+		for (String value : values) {
+			convertedValues.add(this.convert(value));
+		}
+
+		return convertedValues;
+	}
+
+	/**
+	 * Create the getter handle for given field.
+	 *
+	 * @param field
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle createGetter(Field field) {
+		try {
+			return privateLookup(field).unreflectGetter(field).asType(GETTER_TYPE);
+
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Create the setter handle for given field.
+	 *
+	 * @param field
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle createSetter(Field field) {
+		try {
+			return privateLookup(field).unreflectSetter(field).asType(SETTER_TYPE);
+
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Create the factory of empty collections compatible with given collection type.
+	 *
+	 * @param collectionType
+	 * @return collection factory
+	 */
+	private static Supplier<Collection<Object>> createCollectionFactory(Class<?> collectionType) {
+		if (SortedSet.class.isAssignableFrom(collectionType)) {
+			return TreeSet::new;
+
+		} else if (Set.class.isAssignableFrom(collectionType)) {
+			return HashSet::new;
+
+		} else if (Queue.class.isAssignableFrom(collectionType)) {
+			return PriorityQueue::new;
+		}
+
+		return ArrayList::new;
+	}
+
+	/**
+	 * Return a lookup with private access to the field declaring class.
+	 *
+	 * @param field
+	 * @return {@link MethodHandles.Lookup}
+	 * @throws IllegalAccessException
+	 */
+	static MethodHandles.Lookup privateLookup(Field field) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+	}
+
+	/**
+	 * Attribute metadata toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "AttributeMetadata [name=" + name + ", javaType=" + javaType.getName() + ", persistent=" + persistent + "]";
+	}
+
+}
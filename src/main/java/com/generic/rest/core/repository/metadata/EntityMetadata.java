@@ -0,0 +1,205 @@
+package com.generic.rest.core.repository.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.generic.rest.core.exception.MapperException;
+import com.generic.rest.core.util.StringParserUtils;
+
+/**
+ * Class responsible for holding the resolved metadata of an entity class: its no-args constructor handle, its attributes
+ * and the already resolved dotted attribute paths requested so far.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class EntityMetadata {
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private final Class<?> javaType;
+	private final MethodHandle constructor;
+	private final Map<String, AttributeMetadata> attributes;
+	private final Map<String, List<AttributeMetadata>> attributePaths = new ConcurrentHashMap<>();
+	private final AttributeMetadata versionAttribute;
+	private final boolean statementUpdatable;
+	private final EntityMetadataRegistry registry;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param javaType
+	 * @param attributes
+	 * @param versionAttribute
+	 * @param statementUpdatable
+	 * @param registry
+	 */
+	EntityMetadata(Class<?> javaType, Map<String, AttributeMetadata> attributes, AttributeMetadata versionAttribute,
+			boolean statementUpdatable, EntityMetadataRegistry registry) {
+		this.javaType = javaType;
+		this.constructor = createConstructor(javaType);
+		this.attributes = Collections.unmodifiableMap(attributes);
+		this.versionAttribute = versionAttribute;
+		this.statementUpdatable = statementUpdatable;
+		this.registry = registry;
+	}
+
+	/**
+	 * Return the entity class.
+	 *
+	 * @return entity class
+	 */
+	public Class<?> getJavaType() {
+		return javaType;
+	}
+
+	/**
+	 * Create a new instance of the entity class through its no-args constructor.
+	 *
+	 * @return new instance
+	 * @throws MapperException
+	 */
+	public Object newInstance() {
+		if (this.constructor == null) {
+			throw new MapperException(String.format("Class %s has no accessible no-args constructor", this.javaType.getName()));
+		}
+
+		try {
+			return this.constructor.invokeExact();
+
+		} catch (Throwable e) {
+			throw new MapperException(e);
+		}
+	}
+
+	/**
+	 * Return all attributes of the entity, including inherited ones, by name.
+	 *
+	 * @return attributes
+	 */
+	public Map<String, AttributeMetadata> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Return the attribute with given name or null if the entity has no such attribute.
+	 *
+	 * @param attributeName
+	 * @return {@link AttributeMetadata}
+	 */
+	public AttributeMetadata getAttribute(String attributeName) {
+		return this.attributes.get(attributeName);
+	}
+
+	/**
+	 * Return the optimistic locking version attribute of the entity or null if the entity is not versioned.
+	 *
+	 * @return {@link AttributeMetadata}
+	 */
+	public AttributeMetadata getVersionAttribute() {
+		return versionAttribute;
+	}
+
+	/**
+	 * Verify if the whole state of the entity can be written by a single UPDATE statement of its own table, which is the
+	 * case when its persistent attributes are all basic columns or inverse associations that do not cascade merges, and
+	 * its updates do not trigger entity listeners, update callbacks or auditing.
+	 *
+	 * @return true if entity is updatable by a single statement, false otherwise
+	 */
+	public boolean isStatementUpdatable() {
+		return statementUpdatable;
+	}
+
+	/**
+	 * Return the chain of attributes of a dotted path, e.g. <i>address.country.name</i>, or null if the path
+	 * can not be resolved. Resolved paths are kept for later lookups.
+	 *
+	 * @param attributePath
+	 * @return List of {@link AttributeMetadata}
+	 */
+	public List<AttributeMetadata> getAttributePath(String attributePath) {
+		if (attributePath == null) {
+			return Collections.emptyList();
+		}
+
+		List<AttributeMetadata> attributeChain = this.attributePaths.get(attributePath);
+
+		if (attributeChain == null) {
+			attributeChain = this.resolveAttributePath(attributePath);
+
+			if (attributeChain != null) {
+				this.attributePaths.putIfAbsent(attributePath, attributeChain);
+			}
+		}
+
+		return attributeChain;
+	}
+
+	/**
+	 * Resolve the chain of attributes of a dotted path.
+	 *
+	 * @param attributePath
+	 * @return List of {@link AttributeMetadata}
+	 */
+	private List<AttributeMetadata> resolveAttributePath(String attributePath) {
+		List<String> attributeNames = StringParserUtils.splitStringList(attributePath, '.');
+		List<AttributeMetadata> attributeChain = new ArrayList<>(attributeNames.size());
+		EntityMetadata currentMetadata = this;
+
+		for (int i = 0; i < attributeNames.size(); i++) {
+			AttributeMetadata attribute = currentMetadata.getAttribute(attributeNames.get(i));
+
+			if (attribute == null) {
+				return null;
+			}
+
+			attributeChain.add(attribute);
+
+			if (i < attributeNames.size() - 1) {
+				currentMetadata = this.registry.getEntityMetadata(attribute.getTargetType());
+			}
+		}
+
+		return List.copyOf(attributeChain);
+	}
+
+	/**
+	 * Create the no-args constructor handle of given class, or null if the class can not be instantiated.
+	 *
+	 * @param javaType
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle createConstructor(Class<?> javaType) {
+		if (javaType.isInterface() || javaType.isArray() || javaType.isPrimitive() || Modifier.isAbstract(javaType.getModifiers())) {
+			return null;
+		}
+
+		try {
+			return MethodHandles.privateLookupIn(javaType, MethodHandles.lookup())
+					.findConstructor(javaType, MethodType.methodType(void.class))
+					.asType(CONSTRUCTOR_TYPE);
+
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Entity metadata toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "EntityMetadata [javaType=" + javaType.getName() + ", attributes=" + attributes.keySet() + "]";
+	}
+
+}
@@ -0,0 +1,346 @@
+package com.generic.rest.core.repository.metadata;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.stereotype.Component;
+
+import com.generic.rest.core.util.codec.ValueCodecRegistry;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+/**
+ * Registry of {@link EntityMetadata} built eagerly at startup from the JPA {@link Metamodel}. </p>
+ * Classes unknown to the metamodel are resolved reflectively on their first lookup and kept in the registry.
+ *
+ * @author leonardo.ramos
+ *
+ */
+@Component
+public class EntityMetadataRegistry {
+
+	private final Map<Class<?>, EntityMetadata> entities = new ConcurrentHashMap<>();
+	private final ValueCodecRegistry valueCodecRegistry;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param entityManagerFactory
+	 * @param valueCodecRegistry
+	 */
+	@Autowired
+	public EntityMetadataRegistry(EntityManagerFactory entityManagerFactory, ValueCodecRegistry valueCodecRegistry) {
+		this(entityManagerFactory.getMetamodel(), valueCodecRegistry);
+	}
+
+	/**
+	 * Constructor, using the built-in codecs of {@link ValueCodecRegistry}.
+	 *
+	 * @param metamodel
+	 */
+	public EntityMetadataRegistry(Metamodel metamodel) {
+		this(metamodel, new ValueCodecRegistry());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param metamodel
+	 * @param valueCodecRegistry
+	 */
+	public EntityMetadataRegistry(Metamodel metamodel, ValueCodecRegistry valueCodecRegistry) {
+		this.valueCodecRegistry = valueCodecRegistry;
+
+		for (ManagedType<?> managedType : metamodel.getManagedTypes()) {
+			Class<?> javaType = managedType.getJavaType();
+
+			if (javaType != null) {
+				this.entities.put(javaType, this.buildEntityMetadata(javaType, managedType));
+			}
+		}
+	}
+
+	/**
+	 * Return the {@link EntityMetadata} of given class.
+	 *
+	 * @param clazz
+	 * @return {@link EntityMetadata}
+	 */
+	public EntityMetadata getEntityMetadata(Class<?> clazz) {
+		EntityMetadata entityMetadata = this.entities.get(clazz);
+
+		if (entityMetadata == null) {
+			entityMetadata = this.entities.computeIfAbsent(clazz, javaType -> this.buildEntityMetadata(javaType, null));
+		}
+
+		return entityMetadata;
+	}
+
+	/**
+	 * Return the attribute of given class and name.
+	 *
+	 * @param clazz
+	 * @param attributeName
+	 * @return {@link AttributeMetadata}
+	 * @throws NoSuchFieldException
+	 */
+	public AttributeMetadata getAttribute(Class<?> clazz, String attributeName) throws NoSuchFieldException {
+		AttributeMetadata attribute = this.getEntityMetadata(clazz).getAttribute(attributeName);
+
+		if (attribute == null) {
+			throw new NoSuchFieldException(attributeName);
+		}
+
+		return attribute;
+	}
+
+	/**
+	 * Return the chain of attributes of given class for a dotted path, e.g. <i>address.country.name</i>.
+	 *
+	 * @param clazz
+	 * @param attributePath
+	 * @return List of {@link AttributeMetadata}
+	 * @throws NoSuchFieldException
+	 */
+	public List<AttributeMetadata> getAttributePath(Class<?> clazz, String attributePath) throws NoSuchFieldException {
+		List<AttributeMetadata> attributeChain = this.getEntityMetadata(clazz).getAttributePath(attributePath);
+
+		if (attributeChain == null) {
+			throw new NoSuchFieldException(attributePath);
+		}
+
+		return attributeChain;
+	}
+
+	/**
+	 * Build the metadata of a class, taking the persistent attributes from the metamodel when available and
+	 * completing it with the remaining declared fields of the class hierarchy.
+	 *
+	 * @param javaType
+	 * @param managedType
+	 * @return {@link EntityMetadata}
+	 */
+	private EntityMetadata buildEntityMetadata(Class<?> javaType, ManagedType<?> managedType) {
+		Map<String, AttributeMetadata> attributes = new LinkedHashMap<>();
+		AttributeMetadata versionAttribute = null;
+		boolean statementUpdatable = managedType != null;
+
+		if (managedType != null) {
+			for (Attribute<?, ?> attribute : managedType.getAttributes()) {
+				Field field = this.findField(javaType, attribute.getName());
+
+				if (field != null) {
+					Class<?> targetType = attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute ?
+							pluralAttribute.getElementType().getJavaType() : field.getType();
+					AttributeMetadata attributeMetadata = new AttributeMetadata(field, targetType, true, this.isUpdatable(attribute, field),
+							this.isNullable(attribute, field), this.valueCodecRegistry.getCodec(field.getType()));
+
+					if (attribute instanceof SingularAttribute<?, ?> singularAttribute && singularAttribute.isVersion()) {
+						versionAttribute = attributeMetadata;
+					}
+
+					statementUpdatable &= attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC
+							|| this.isInverseAssociation(field);
+					attributes.put(attribute.getName(), attributeMetadata);
+
+				} else {
+					statementUpdatable = false;
+				}
+			}
+		}
+
+		Class<?> currentClass = javaType;
+
+		while (currentClass != null && !Object.class.equals(currentClass)) {
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && !attributes.containsKey(field.getName())
+						&& this.isAccessible(field)) {
+					attributes.put(field.getName(), new AttributeMetadata(field, field.getType(), false, false,
+							!field.getType().isPrimitive(), this.valueCodecRegistry.getCodec(field.getType())));
+				}
+			}
+			currentClass = currentClass.getSuperclass();
+		}
+
+		statementUpdatable &= !this.hasUpdateCallbacks(javaType);
+
+		return new EntityMetadata(javaType, attributes, versionAttribute, statementUpdatable, this);
+	}
+
+	/**
+	 * Verify if given metamodel attribute is a basic column other than the identifier or the version, whose
+	 * {@link Column} mapping, if any, allows updates.
+	 *
+	 * @param attribute
+	 * @param field
+	 * @return true if attribute is updatable, false otherwise
+	 */
+	private boolean isUpdatable(Attribute<?, ?> attribute, Field field) {
+		Column column = field.getAnnotation(Column.class);
+
+		return attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC
+				&& attribute instanceof SingularAttribute<?, ?> singularAttribute
+				&& !singularAttribute.isId() && !singularAttribute.isVersion()
+				&& (column == null || column.updatable());
+	}
+
+	/**
+	 * Verify if given attribute may hold null, which is not the case of primitives, identifiers, versions, non optional
+	 * attributes and non nullable columns.
+	 *
+	 * @param attribute
+	 * @param field
+	 * @return true if attribute is nullable, false otherwise
+	 */
+	private boolean isNullable(Attribute<?, ?> attribute, Field field) {
+		Column column = field.getAnnotation(Column.class);
+
+		return !field.getType().isPrimitive() && (column == null || column.nullable())
+				&& !(attribute instanceof SingularAttribute<?, ?> singularAttribute
+						&& (singularAttribute.isId() || singularAttribute.isVersion() || !singularAttribute.isOptional()));
+	}
+
+	/**
+	 * Verify if given association field is the inverse side of a relationship which does not cascade merges, so writing
+	 * its owner does not write the association.
+	 *
+	 * @param field
+	 * @return true if field is a non cascading inverse association, false otherwise
+	 */
+	private boolean isInverseAssociation(Field field) {
+		OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+
+		if (oneToOne != null) {
+			return !oneToOne.mappedBy().isEmpty() && !this.isMergeCascaded(oneToOne.cascade());
+		}
+
+		OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+
+		if (oneToMany != null) {
+			return !oneToMany.mappedBy().isEmpty() && !this.isMergeCascaded(oneToMany.cascade());
+		}
+
+		ManyToMany manyToMany = field.getAnnotation(ManyToMany.class);
+
+		return manyToMany != null && !manyToMany.mappedBy().isEmpty() && !this.isMergeCascaded(manyToMany.cascade());
+	}
+
+	/**
+	 * Verify if updates of given class trigger callbacks that a statement update would skip, which is the case of
+	 * {@link EntityListeners}, {@link PreUpdate} and {@link PostUpdate} methods and fields or methods filled on update,
+	 * e.g. {@link UpdateTimestamp} and {@link LastModifiedDate}, declared anywhere in its hierarchy.
+	 *
+	 * @param javaType
+	 * @return true if updates trigger callbacks, false otherwise
+	 */
+	private boolean hasUpdateCallbacks(Class<?> javaType) {
+		for (Class<?> currentClass = javaType; currentClass != null && !Object.class.equals(currentClass);
+				currentClass = currentClass.getSuperclass()) {
+
+			if (currentClass.isAnnotationPresent(EntityListeners.class)) {
+				return true;
+			}
+
+			for (Method method : currentClass.getDeclaredMethods()) {
+				if (method.isAnnotationPresent(PreUpdate.class) || method.isAnnotationPresent(PostUpdate.class)
+						|| this.isFilledOnUpdate(method)) {
+					return true;
+				}
+			}
+
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (this.isFilledOnUpdate(field)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Verify if given field or method is filled by Hibernate or Spring Data auditing on update.
+	 *
+	 * @param element
+	 * @return true if filled on update, false otherwise
+	 */
+	private boolean isFilledOnUpdate(AnnotatedElement element) {
+		return element.isAnnotationPresent(UpdateTimestamp.class) || element.isAnnotationPresent(CurrentTimestamp.class)
+				|| element.isAnnotationPresent(LastModifiedDate.class) || element.isAnnotationPresent(LastModifiedBy.class);
+	}
+
+	/**
+	 * Verify if given cascade types include merges.
+	 *
+	 * @param cascadeTypes
+	 * @return true if merges are cascaded, false otherwise
+	 */
+	private boolean isMergeCascaded(CascadeType[] cascadeTypes) {
+		for (CascadeType cascadeType : cascadeTypes) {
+			if (cascadeType == CascadeType.ALL || cascadeType == CascadeType.MERGE) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Verify if given field grants private access to this library, which is not the case for JDK classes.
+	 *
+	 * @param field
+	 * @return true if the field is accessible, false otherwise
+	 */
+	private boolean isAccessible(Field field) {
+		Class<?> declaringClass = field.getDeclaringClass();
+		return declaringClass.getModule().isOpen(declaringClass.getPackageName(), EntityMetadataRegistry.class.getModule());
+	}
+
+	/**
+	 * Find the field with given name in the class hierarchy.
+	 *
+	 * @param clazz
+	 * @param fieldName
+	 * @return {@link Field} or null if there is no such field
+	 */
+	private Field findField(Class<?> clazz, String fieldName) {
+		Class<?> currentClass = clazz;
+
+		while (currentClass != null) {
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (field.getName().equals(fieldName)) {
+					return field;
+				}
+			}
+			currentClass = currentClass.getSuperclass();
+		}
+
+		return null;
+	}
+
+}
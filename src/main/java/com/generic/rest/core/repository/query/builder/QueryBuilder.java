@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.generic.rest.core.domain.filter.RequestFilter;
 import com.generic.rest.core.exception.BadRequestApiException;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Order;
@@ -81,6 +82,44 @@ public interface QueryBuilder<E> {
 	List<Predicate> getRestrictions(Class<E> entityClass, RequestFilter requestFilter, CriteriaBuilder criteriaBuilder,
 			Root<?> root) throws BadRequestApiException;
 
+	/**
+	 * Build the seek {@link Predicate} of a keyset paginated {@link RequestFilter}, restricting the query to the rows
+	 * that come after its cursor in the query sort order.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param criteriaBuilder
+	 * @param root
+	 * @return {@link Predicate} or null if the query has no cursor to seek from
+	 * @throws BadRequestApiException
+	 */
+	Predicate getSeekRestriction(Class<E> entityClass, RequestFilter requestFilter, CriteriaBuilder criteriaBuilder,
+			Root<?> root) throws BadRequestApiException;
+
+	/**
+	 * Return the attribute paths to clear from the records of a projected keyset paginated {@link RequestFilter}, which
+	 * are the sort keys added to the projection only to build the cursor of the next page. Projections of collections
+	 * are fetched as whole entities, so they have nothing to clear.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @return attribute paths, each ending at the attribute to clear
+	 * @throws BadRequestApiException
+	 */
+	List<List<AttributeMetadata>> getKeysetOnlyAttributes(Class<E> entityClass, RequestFilter requestFilter) 
+			throws BadRequestApiException;
+
+	/**
+	 * Build the encoded cursor pointing after given record of a keyset paginated {@link RequestFilter}.
+	 * 
+	 * @param entityClass
+	 * @param requestFilter
+	 * @param lastRecord
+	 * @return encoded cursor
+	 * @throws BadRequestApiException
+	 */
+	String getNextCursor(Class<E> entityClass, RequestFilter requestFilter, Object lastRecord) throws BadRequestApiException;
+
 	/**
 	 * Build a list of {@link Order} from {@link RequestFilter}.
 	 * 
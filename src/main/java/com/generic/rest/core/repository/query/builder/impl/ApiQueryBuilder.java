@@ -1,25 +1,33 @@
 package com.generic.rest.core.repository.query.builder.impl;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import com.generic.rest.core.BaseConstants;
 import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.BaseConstants.QUERYPLAN;
 import com.generic.rest.core.domain.filter.AggregateFunction;
-import com.generic.rest.core.domain.filter.FilterExpression;
-import com.generic.rest.core.domain.filter.FilterField;
-import com.generic.rest.core.domain.filter.FilterOperator;
 import com.generic.rest.core.domain.filter.FilterOrder;
 import com.generic.rest.core.domain.filter.LogicOperator;
+import com.generic.rest.core.domain.filter.PageCursor;
 import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.domain.filter.SortOrder;
 import com.generic.rest.core.exception.BadRequestApiException;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
 import com.generic.rest.core.repository.query.builder.QueryBuilder;
-import com.generic.rest.core.util.ReflectionUtils;
+import com.generic.rest.core.repository.query.plan.FilterPlan;
+import com.generic.rest.core.repository.query.plan.FilterPlanCache;
+import com.generic.rest.core.repository.query.plan.FilterPlanClause;
+import com.generic.rest.core.repository.query.plan.FilterPlanJunction;
+import com.generic.rest.core.repository.query.plan.FilterPlanNegation;
+import com.generic.rest.core.repository.query.plan.FilterPlanNode;
+import com.generic.rest.core.repository.query.plan.FilterShape;
 import com.generic.rest.core.util.StringParserUtils;
 
+import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
@@ -38,6 +46,19 @@ import jakarta.persistence.criteria.Selection;
 @SuppressWarnings({ "unchecked", "rawtypes" } )
 public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 	
+	private EntityMetadataRegistry entityMetadataRegistry;
+	private FilterPlanCache filterPlanCache;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param entityMetadataRegistry
+	 */
+	public ApiQueryBuilder(EntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+		this.filterPlanCache = new FilterPlanCache(entityMetadataRegistry, QUERYPLAN.CACHE_MAX_SIZE);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -79,6 +100,11 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 	public <X extends Object> List<Selection<X>> getProjectionFields(RequestFilter requestFilter, Root<?> root, Class<E> entityClass) throws BadRequestApiException {
 		try {
 			List<String> projectionFields = StringParserUtils.splitStringList(requestFilter.getProjection(), ',');
+			
+			if (requestFilter.isKeysetPagination() && !projectionFields.isEmpty()) {
+				projectionFields = this.addKeysetFields(requestFilter, projectionFields);
+			}
+			
 			return this.buildProjectionSelection(root, entityClass, projectionFields);
 			
 		} catch (Exception e) {
@@ -86,6 +112,93 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 		}
 	}
 	
+	/**
+	 * Add the keyset fields missing in a given projection, so the cursor of the next page can be read from the records.
+	 * 
+	 * @param requestFilter
+	 * @param projectionFields
+	 * @return projection fields including the keyset fields
+	 */
+	private List<String> addKeysetFields(RequestFilter requestFilter, List<String> projectionFields) {
+		List<String> keysetProjectionFields = new ArrayList<>(projectionFields);
+		
+		for (FilterOrder filterOrder : this.getKeysetOrders(requestFilter)) {
+			if (!keysetProjectionFields.contains(filterOrder.getField())) {
+				keysetProjectionFields.add(filterOrder.getField());
+			}
+		}
+		
+		return keysetProjectionFields;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<List<AttributeMetadata>> getKeysetOnlyAttributes(Class<E> entityClass, RequestFilter requestFilter) 
+			throws BadRequestApiException {
+		
+		List<String> projectionFields = StringParserUtils.splitStringList(requestFilter.getProjection(), ',');
+		List<List<AttributeMetadata>> keysetOnlyAttributes = new ArrayList<>();
+		
+		if (!requestFilter.isKeysetPagination() || projectionFields.isEmpty()) {
+			return keysetOnlyAttributes;
+		}
+		
+		try {
+			for (String projectionField : projectionFields) {
+				if (this.entityMetadataRegistry.getAttributePath(entityClass, projectionField).getLast().isCollection()) {
+					return keysetOnlyAttributes;
+				}
+			}
+			
+			for (FilterOrder filterOrder : this.getKeysetOrders(requestFilter)) {
+				List<AttributeMetadata> attributes = this.entityMetadataRegistry.getAttributePath(entityClass, filterOrder.getField());
+				int sharedDepth = this.getSharedDepth(filterOrder.getField(), projectionFields);
+				
+				if (sharedDepth < attributes.size()) {
+					keysetOnlyAttributes.add(attributes.subList(0, sharedDepth + 1));
+				}
+			}
+			
+			return keysetOnlyAttributes;
+			
+		} catch (NoSuchFieldException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PARSE_SORT_ORDER_ERROR, requestFilter.getSort()), e);
+		}
+	}
+	
+	/**
+	 * Return the number of leading attributes of a keyset field path shared with the requested projection fields, or the
+	 * length of the path if it is requested itself or nested in a requested field.
+	 * 
+	 * @param keysetField
+	 * @param projectionFields
+	 * @return shared depth
+	 */
+	private int getSharedDepth(String keysetField, List<String> projectionFields) {
+		List<String> keysetPath = StringParserUtils.splitStringList(keysetField, '.');
+		int sharedDepth = 0;
+		
+		for (String projectionField : projectionFields) {
+			List<String> projectionPath = StringParserUtils.splitStringList(projectionField, '.');
+			int depth = 0;
+			
+			while (depth < keysetPath.size() && depth < projectionPath.size() 
+					&& keysetPath.get(depth).equals(projectionPath.get(depth))) {
+				depth++;
+			}
+			
+			if (depth == projectionPath.size()) {
+				return keysetPath.size();
+			}
+			
+			sharedDepth = Math.max(sharedDepth, depth);
+		}
+		
+		return sharedDepth;
+	}
+	
 	/**
 	 * Build list of selection of a given projection by its real classes types.
 	 * 
@@ -104,8 +217,8 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 		if (!projectionFields.isEmpty()) {
 			
 			for (String fieldName : projectionFields) {
-				List<Field> fields = splitFields(entityClass, fieldName);
-				projection.add(this.getFieldExpressionPath(fields, root));
+				List<AttributeMetadata> attributes = this.entityMetadataRegistry.getAttributePath(entityClass, fieldName);
+				projection.add(this.getFieldExpressionPath(attributes, root));
 			}
 		}
 		
@@ -128,19 +241,19 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 			List<Selection<X>> aggregationFields = new ArrayList<>();
 			
 			if (!sumFields.isEmpty()) {
-				this.addAggregationFields(root, criteriaBuilder, entityClass, sumFields, aggregationFields, AggregateFunction.SUM.name());
+				this.addAggregationFields(root, criteriaBuilder, entityClass, sumFields, aggregationFields, AggregateFunction.SUM);
 			}
 			
 			if (!countFields.isEmpty()) {
-				this.addAggregationFields(root, criteriaBuilder, entityClass, countFields, aggregationFields, AggregateFunction.COUNT.name());
+				this.addAggregationFields(root, criteriaBuilder, entityClass, countFields, aggregationFields, AggregateFunction.COUNT);
 			}
 			
 			if (!countDistinctFields.isEmpty()) {
-				this.addAggregationFields(root, criteriaBuilder, entityClass, countDistinctFields, aggregationFields, AggregateFunction.COUNT_DISTINCT.name());
+				this.addAggregationFields(root, criteriaBuilder, entityClass, countDistinctFields, aggregationFields, AggregateFunction.COUNT_DISTINCT);
 			}
 			
 			if (!avgFields.isEmpty()) {
-				this.addAggregationFields(root, criteriaBuilder, entityClass, avgFields, aggregationFields, AggregateFunction.AVG.name());
+				this.addAggregationFields(root, criteriaBuilder, entityClass, avgFields, aggregationFields, AggregateFunction.AVG);
 			}
 			
 			if (!groupByFields.isEmpty()) {
@@ -167,25 +280,22 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 	 * @throws NoSuchFieldException
 	 */
 	private <X extends Object> void addAggregationFields(Root<?> root, CriteriaBuilder criteriaBuilder, Class<E> entityClass,
-			List<String> requestFields, List<Selection<X>> aggregationFields, String aggregateFunction) throws NoSuchFieldException {
+			List<String> requestFields, List<Selection<X>> aggregationFields, AggregateFunction aggregateFunction) throws NoSuchFieldException {
 		
 		for (String fieldName : requestFields) {
-			List<Field> fields = splitFields(entityClass, fieldName);
+			List<AttributeMetadata> attributes = this.entityMetadataRegistry.getAttributePath(entityClass, fieldName);
+			Expression path = this.getFieldExpressionPath(attributes, root);
 			
-			if (AggregateFunction.isSumFunction(aggregateFunction)) {
-				aggregationFields.add(criteriaBuilder.sum(this.getFieldExpressionPath(fields, root)));
-				
-			} else if (AggregateFunction.isAvgFunction(aggregateFunction)) {
-				aggregationFields.add(criteriaBuilder.avg(this.getFieldExpressionPath(fields, root)));
-				
-			} else if (AggregateFunction.isCountFunction(aggregateFunction)) {
-				aggregationFields.add((Selection<X>) criteriaBuilder.count(this.getFieldExpressionPath(fields, root)));
-				
-			} else if (AggregateFunction.isCountDistinctFunction(aggregateFunction)) {
-				aggregationFields.add((Selection<X>) criteriaBuilder.countDistinct(this.getFieldExpressionPath(fields, root)));
-				
-			} else {
-				aggregationFields.add(this.getFieldExpressionPath(fields, root));
+			if (aggregateFunction == null) {
+				aggregationFields.add(path);
+				continue;
+			}
+			
+			switch (aggregateFunction) {
+				case SUM -> aggregationFields.add(criteriaBuilder.sum(path));
+				case AVG -> aggregationFields.add(criteriaBuilder.avg(path));
+				case COUNT -> aggregationFields.add((Selection<X>) criteriaBuilder.count(path));
+				case COUNT_DISTINCT -> aggregationFields.add((Selection<X>) criteriaBuilder.countDistinct(path));
 			}
 		}
 	}
@@ -200,29 +310,17 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 			CriteriaBuilder criteriaBuilder,
 			Root<?> root) throws BadRequestApiException {
 		try {
-			FilterExpression currentExpression = FilterExpression.of(requestFilter.getFilter());
 			List<Predicate> restrictions = new ArrayList<>();
 			
-			while (currentExpression != null) {
-				List<Predicate> conjunctionRestrictions = new ArrayList<>();
-				
-				if (currentExpression.getFilterField() != null) {
-					if (LogicOperator.OR.equals(currentExpression.getLogicOperator())) {
-						
-						currentExpression = this.getOrRestrictions(entityClass, criteriaBuilder, root, currentExpression, conjunctionRestrictions);
-						
-						List<Predicate> orParsedRestrictions = new ArrayList<>();
-						orParsedRestrictions.add(criteriaBuilder.or(conjunctionRestrictions.toArray(new Predicate[]{})));
-					
-						restrictions.add(criteriaBuilder.and(orParsedRestrictions.toArray(new Predicate[]{})));
-
-					} else {
-						conjunctionRestrictions.add(buildPredicate(entityClass, currentExpression.getFilterField(), criteriaBuilder, root));
-						restrictions.add(criteriaBuilder.and(conjunctionRestrictions.toArray(new Predicate[]{})));
-					}
-				}
-				
-				currentExpression = currentExpression != null ? currentExpression.getFilterNestedExpression() : currentExpression;
+			if (StringUtils.isBlank(requestFilter.getFilter())) {
+				return restrictions;
+			}
+			
+			FilterShape filterShape = FilterShape.of(requestFilter.getFilterNode());
+			FilterPlan filterPlan = this.filterPlanCache.get(entityClass, filterShape);
+			
+			for (FilterPlanNode conjunction : filterPlan.getConjunctions()) {
+				restrictions.add(this.buildPredicate(conjunction, filterShape.getValues(), criteriaBuilder, root));
 			}
 	        
 			return restrictions;
@@ -233,182 +331,291 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 	}
 
 	/**
-	 * Fill the {@link Predicate} with the restrictions and the query related to the 
-	 * {@link FilterExpression} of {@link LogicOperator#OR} operator and return the next nested 
-	 * expression after the {@link LogicOperator#OR} expression.
+	 * Build a nested query {@link Predicate} from a compiled {@link FilterPlanNode}, binding its clauses to their literal values.
 	 * 
-	 * @param entityClass
+	 * @param filterPlanNode
+	 * @param values
 	 * @param criteriaBuilder
 	 * @param root
-	 * @param currentExpression
-	 * @param conjunctionRestrictions
-	 * @return {@link FilterExpression}
+	 * @return Predicate
 	 * @throws NoSuchFieldException
 	 * @throws IOException
 	 */
-	private FilterExpression getOrRestrictions(Class<E> entityClass, CriteriaBuilder criteriaBuilder, Root<?> root,
-			FilterExpression currentExpression, List<Predicate> conjunctionRestrictions)
-			throws NoSuchFieldException, IOException {
-		
-		do {
-			conjunctionRestrictions.add(this.buildPredicate(entityClass, currentExpression.getFilterField(), criteriaBuilder, root));
-			currentExpression = currentExpression.getFilterNestedExpression();
+	private Predicate buildPredicate(
+			FilterPlanNode filterPlanNode,
+			List<String> values,
+			CriteriaBuilder criteriaBuilder, 
+			Root<?> root) throws NoSuchFieldException, IOException {
 		
-		} while (currentExpression != null && LogicOperator.OR.equals(currentExpression.getLogicOperator()));
+		if (filterPlanNode instanceof FilterPlanNegation filterPlanNegation) {
+			return criteriaBuilder.not(this.buildPredicate(filterPlanNegation.getOperand(), values, criteriaBuilder, root));
+		}
 		
-		if (currentExpression != null && currentExpression.getFilterField() != null) {
-			conjunctionRestrictions.add(this.buildPredicate(entityClass, currentExpression.getFilterField(), criteriaBuilder, root));
+		if (filterPlanNode instanceof FilterPlanJunction filterPlanJunction) {
+			List<FilterPlanNode> operands = filterPlanJunction.getOperands();
+			Predicate[] predicates = new Predicate[operands.size()];
+			
+			for (int i = 0; i < operands.size(); i++) {
+				predicates[i] = this.buildPredicate(operands.get(i), values, criteriaBuilder, root);
+			}
+			
+			return LogicOperator.OR.equals(filterPlanJunction.getLogicOperator()) ? 
+					criteriaBuilder.or(predicates) : criteriaBuilder.and(predicates);
 		}
 		
-		return currentExpression;
+		return this.buildClausePredicate((FilterPlanClause) filterPlanNode, values, criteriaBuilder, root);
 	}
 
 	/**
-	 * Build query {@link Predicate} based on {@link FilterField} field, expected value and a {@link FilterOperator}.
+	 * Build query {@link Predicate} binding a compiled {@link FilterPlanClause} to its literal value.
 	 * 
-	 * @param entityClass
-	 * @param filterField
+	 * @param filterPlanClause
+	 * @param values
 	 * @param criteriaBuilder
 	 * @param root
 	 * @return Predicate
 	 * @throws NoSuchFieldException
 	 * @throws IOException
 	 */
-	private Predicate buildPredicate(
-			Class<E> entityClass,
-			FilterField filterField, 
+	private Predicate buildClausePredicate(
+			FilterPlanClause filterPlanClause,
+			List<String> values,
 			CriteriaBuilder criteriaBuilder, 
 			Root<?> root) throws NoSuchFieldException, IOException {
 
-		List<Field> fields = this.splitFields(entityClass, filterField.getField());
-		Field field = null;
+		List<AttributeMetadata> attributes = filterPlanClause.getAttributes();
+		AttributeMetadata significantAttribute = filterPlanClause.getSignificantAttribute();
+		String value = values.get(filterPlanClause.getValueIndex());
 		
-		switch (filterField.getFilterOperator()) {
+		switch (filterPlanClause.getFilterOperator()) {
 			case IN:
-				field = this.getSignificantField(fields);
-				
-				String normalizedValues = StringParserUtils.replace(filterField.getValue(), new String[]{"(", ")"}, "");
-				
-				return this.getFieldExpressionPath(fields, root)
-						.in(ReflectionUtils.getTypifiedValue(StringParserUtils.splitStringList(normalizedValues, ','), field.getType()));
+				return this.getFieldExpressionPath(attributes, root)
+						.in(significantAttribute.convert(this.getListValues(value)));
 			case OU:
-				field = this.getSignificantField(fields);
-				
-				normalizedValues = StringParserUtils.replace(filterField.getValue(), new String[]{"(", ")"}, "");
-				
-				return this.getFieldExpressionPath(fields, root)
-						.in(ReflectionUtils.getTypifiedValue(StringParserUtils.splitStringList(normalizedValues, ','), field.getType())).not();
+				return this.getFieldExpressionPath(attributes, root)
+						.in(significantAttribute.convert(this.getListValues(value))).not();
 			case GE:
 				return criteriaBuilder.greaterThanOrEqualTo(this.getFieldExpressionPath(
-						fields, root), (Comparable) this.getTypifiedValue(filterField, fields));
+						attributes, root), (Comparable) significantAttribute.convert(value));
 			case GT:
 				return criteriaBuilder.greaterThan(this.getFieldExpressionPath(
-						fields, root), (Comparable) this.getTypifiedValue(filterField, fields));
+						attributes, root), (Comparable) significantAttribute.convert(value));
 			case LE:
 				return criteriaBuilder.lessThanOrEqualTo(this.getFieldExpressionPath(
-						fields, root), (Comparable) this.getTypifiedValue(filterField, fields));
+						attributes, root), (Comparable) significantAttribute.convert(value));
 			case LT:
 				return criteriaBuilder.lessThan(this.getFieldExpressionPath(
-						fields, root), (Comparable) this.getTypifiedValue(filterField, fields));
+						attributes, root), (Comparable) significantAttribute.convert(value));
 			case NE:
-				if (BaseConstants.NULL_VALUE.equals(filterField.getValue())) {
-					return criteriaBuilder.isNotNull(this.getFieldExpressionPath(fields, root));
+				if (BaseConstants.NULL_VALUE.equals(value)) {
+					return criteriaBuilder.isNotNull(this.getFieldExpressionPath(attributes, root));
 				}
 				return criteriaBuilder.notEqual(this.getFieldExpressionPath(
-						fields, root), this.getTypifiedValue(filterField, fields));
+						attributes, root), significantAttribute.convert(value));
 			case LK:
-				return criteriaBuilder.like(criteriaBuilder.upper(this.getFieldExpressionPath(fields, root)), 
-						"%" + ((String) this.getTypifiedValue(filterField, fields)).toUpperCase() + "%");
+				return criteriaBuilder.like(criteriaBuilder.upper(this.getFieldExpressionPath(attributes, root)), 
+						"%" + ((String) significantAttribute.convert(value)).toUpperCase() + "%");
 			case EQ:
 			default:
-				if (BaseConstants.NULL_VALUE.equals(filterField.getValue())) {
-					return criteriaBuilder.isNull(this.getFieldExpressionPath(fields, root));
+				if (BaseConstants.NULL_VALUE.equals(value)) {
+					return criteriaBuilder.isNull(this.getFieldExpressionPath(attributes, root));
 				}
 				return criteriaBuilder.equal(this.getFieldExpressionPath(
-						fields, root), this.getTypifiedValue(filterField, fields));
+						attributes, root), significantAttribute.convert(value));
 		}
 	}
 
 	/**
-	 * Split a field into a chained list of its subfields.
+	 * Return the values of a list, e.g. of an IN clause, removing only its enclosing parentheses so values may contain
+	 * parentheses.
 	 * 
-	 * @param entityClass
-	 * @param fieldName
-	 * @return List of {@link Field}
-	 * @throws NoSuchFieldException
-	 * @throws SecurityException
+	 * @param value
+	 * @return list values
 	 */
-	private List<Field> splitFields(Class<E> entityClass, String fieldName) throws NoSuchFieldException, SecurityException {
-		List<Field> fields = new ArrayList<>();
-		List<String> attributeNames =  StringParserUtils.splitStringList(fieldName, '.');
-		Class<?> currentFieldClass = entityClass;
-		
-		for (String attributeName : attributeNames) {
-			Field field = ReflectionUtils.getEntityFieldByName(currentFieldClass, attributeName);
-			currentFieldClass = field.getType();
-			fields.add(field);
+	private List<String> getListValues(String value) {
+		if (value.length() > 1 && value.startsWith("(") && value.endsWith(")")) {
+			value = value.substring(1, value.length() - 1);
 		}
 		
-		return fields;
+		return StringParserUtils.splitStringList(value, ',');
 	}
-
+	
 	/**
-	 * Return the typified value of a leaf last subfield.
+	 * Build {@link Expression} of {@link Path} for given attributes.
 	 * 
-	 * @param filterField
-	 * @param fields
-	 * @return The value of the field
-	 * @throws IOException
+	 * @param attributes
+	 * @param root
+	 * @return {@link Expression}
 	 * @throws NoSuchFieldException
 	 */
-	private Object getTypifiedValue(FilterField filterField, List<Field> fields)
-			throws IOException, NoSuchFieldException {
+	private Expression getFieldExpressionPath(List<AttributeMetadata> attributes, Root<?> root) throws NoSuchFieldException {
+		Path<E> expressionPath = null;
+		
+		for (AttributeMetadata attribute : attributes) {
+			if (expressionPath == null) {
+				expressionPath = root.get(attribute.getName());
+				expressionPath.alias(attribute.getName());
+			} else {
+				expressionPath = expressionPath.get(attribute.getName());
+				expressionPath.alias(attribute.getName());
+			}
+		}
 		
-		Field field = this.getSignificantField(fields);
-		return ReflectionUtils.getTypifiedValue(filterField.getValue(), field.getType());
+		if (expressionPath == null) {
+			throw new NoSuchFieldException();
+		}
+		
+		return expressionPath;
 	}
-
+	
 	/**
-	 * Return leaf last subfield
-	 * 
-	 * @param fields
-	 * @return {@link Field}
-	 * @throws NoSuchFieldException
+	 * {@inheritDoc}
 	 */
-	private Field getSignificantField(List<Field> fields) throws NoSuchFieldException {
-		if (fields.isEmpty()) {
-			throw new NoSuchFieldException();
+	@Override
+	public Predicate getSeekRestriction(
+			Class<E> entityClass,
+			RequestFilter requestFilter,
+			CriteriaBuilder criteriaBuilder,
+			Root<?> root) throws BadRequestApiException {
+		
+		if (!requestFilter.isKeysetPagination() || StringUtils.isBlank(requestFilter.getAfter())) {
+			return null;
+		}
+		
+		try {
+			PageCursor pageCursor = PageCursor.decode(requestFilter.getAfter());
+			List<FilterOrder> keysetOrders = this.getKeysetOrders(requestFilter);
+			
+			if (!this.getRawSort(requestFilter).equals(pageCursor.getSort()) || pageCursor.getValues() == null 
+					|| pageCursor.getValues().size() != keysetOrders.size()) {
+				throw new IllegalArgumentException(requestFilter.getAfter());
+			}
+			
+			List<Predicate> seekRestrictions = new ArrayList<>();
+			List<Predicate> equalities = new ArrayList<>();
+			
+			for (int i = 0; i < keysetOrders.size(); i++) {
+				FilterOrder filterOrder = keysetOrders.get(i);
+				List<AttributeMetadata> attributes = this.entityMetadataRegistry.getAttributePath(entityClass, filterOrder.getField());
+				Expression fieldPath = this.getFieldExpressionPath(attributes, root);
+				String cursorValue = pageCursor.getValues().get(i);
+				boolean nullable = this.isNullable(attributes);
+				
+				if (cursorValue == null) {
+					if (!nullable) {
+						throw new IllegalArgumentException(requestFilter.getAfter());
+					}
+					
+					equalities.add(criteriaBuilder.isNull(fieldPath));
+					continue;
+				}
+				
+				Comparable value = (Comparable) attributes.getLast().convert(cursorValue);
+				Predicate seekRestriction = SortOrder.DESC.equals(filterOrder.getSortOrder()) ? 
+						criteriaBuilder.lessThan(fieldPath, value) : criteriaBuilder.greaterThan(fieldPath, value);
+				
+				if (nullable) {
+					seekRestriction = criteriaBuilder.or(seekRestriction, criteriaBuilder.isNull(fieldPath));
+				}
+				
+				if (equalities.isEmpty()) {
+					seekRestrictions.add(seekRestriction);
+				} else {
+					List<Predicate> conjunction = new ArrayList<>(equalities);
+					conjunction.add(seekRestriction);
+					seekRestrictions.add(criteriaBuilder.and(conjunction.toArray(new Predicate[]{})));
+				}
+				
+				equalities.add(criteriaBuilder.equal(fieldPath, value));
+			}
+			
+			return criteriaBuilder.or(seekRestrictions.toArray(new Predicate[]{}));
+			
+		} catch (Exception e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PARSE_CURSOR_ERROR, requestFilter.getAfter()), e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getNextCursor(Class<E> entityClass, RequestFilter requestFilter, Object lastRecord) throws BadRequestApiException {
+		List<Object> keyValues = new ArrayList<>();
+		
+		for (FilterOrder filterOrder : this.getKeysetOrders(requestFilter)) {
+			Object keyValue = lastRecord;
+			
+			try {
+				for (AttributeMetadata attribute : this.entityMetadataRegistry.getAttributePath(entityClass, filterOrder.getField())) {
+					keyValue = keyValue != null ? attribute.getValue(keyValue) : null;
+				}
+				
+			} catch (NoSuchFieldException e) {
+				throw new BadRequestApiException(String.format(MSGERROR.PARSE_SORT_ORDER_ERROR, requestFilter.getSort()), e);
+			}
+			
+			keyValues.add(keyValue);
 		}
 		
-		return fields.get(fields.size() - 1);
+		try {
+			return PageCursor.of(this.getRawSort(requestFilter), keyValues).encode();
+			
+		} catch (IOException e) {
+			throw new BadRequestApiException(String.format(MSGERROR.PARSE_CURSOR_ERROR, keyValues), e);
+		}
 	}
 	
 	/**
-	 * Build {@link Expression} of {@link Path} for given fields.
+	 * Return the sort orders of a keyset paginated query: the requested sort followed by the tiebreak field, 
+	 * unless it is already sorted by it.
 	 * 
-	 * @param fields
-	 * @param root
-	 * @return {@link Expression}
-	 * @throws NoSuchFieldException
+	 * @param requestFilter
+	 * @return List of {@link FilterOrder}
 	 */
-	private Expression getFieldExpressionPath(List<Field> fields, Root<?> root) throws NoSuchFieldException {
-		Path<E> expressionPath = null;
+	private List<FilterOrder> getKeysetOrders(RequestFilter requestFilter) {
+		List<FilterOrder> keysetOrders = StringUtils.isBlank(requestFilter.getSort()) ? 
+				new ArrayList<>() : FilterOrder.of(requestFilter.getSort());
 		
-		for (Field field : fields) {
-			if (expressionPath == null) {
-				expressionPath = root.get(field.getName());
-				expressionPath.alias(field.getName());
-			} else {
-				expressionPath = expressionPath.get(field.getName());
-				expressionPath.alias(field.getName());
+		for (FilterOrder filterOrder : keysetOrders) {
+			if (QUERYPLAN.KEYSET_TIEBREAK_FIELD.equals(filterOrder.getField())) {
+				return keysetOrders;
 			}
 		}
 		
-		if (expressionPath == null) {
-			throw new NoSuchFieldException();
+		FilterOrder tiebreakOrder = new FilterOrder();
+		tiebreakOrder.setField(QUERYPLAN.KEYSET_TIEBREAK_FIELD);
+		tiebreakOrder.setSortOrder(SortOrder.ASC);
+		keysetOrders.add(tiebreakOrder);
+		
+		return keysetOrders;
+	}
+	
+	/**
+	 * Verify if the value of an attribute path may be null, in which case keyset paginated queries sort its nulls last
+	 * and seek them explicitly.
+	 * 
+	 * @param attributes
+	 * @return true if any attribute of the path is nullable, false otherwise
+	 */
+	private boolean isNullable(List<AttributeMetadata> attributes) {
+		for (AttributeMetadata attribute : attributes) {
+			if (attribute.isNullable()) {
+				return true;
+			}
 		}
 		
-		return expressionPath;
+		return false;
+	}
+	
+	/**
+	 * Return the raw sort of a given {@link RequestFilter}, or an empty String in case the param is not present.
+	 * 
+	 * @param requestFilter
+	 * @return raw sort
+	 */
+	private String getRawSort(RequestFilter requestFilter) {
+		return StringUtils.isBlank(requestFilter.getSort()) ? "" : requestFilter.getSort();
 	}
 	
 	/**
@@ -422,21 +629,28 @@ public class ApiQueryBuilder<E> implements QueryBuilder<E> {
 			Class<E> entityClass) throws BadRequestApiException {
 		
 		try {
-			List<FilterOrder> filterOrders = FilterOrder.of(requestFilter.getSort());
+			List<FilterOrder> filterOrders = requestFilter.isKeysetPagination() ? 
+					this.getKeysetOrders(requestFilter) : FilterOrder.of(requestFilter.getSort());
 			List<Order> orders = new ArrayList<>();
 	        
 			if (filterOrders != null && !filterOrders.isEmpty()) {
 	        	
 	        	for (FilterOrder filterOrder : filterOrders) {
-	        		List<Field> fields =  this.splitFields(entityClass, filterOrder.getField());
+	        		List<AttributeMetadata> attributes = this.entityMetadataRegistry.getAttributePath(entityClass, filterOrder.getField());
+	        		
+	        		if (requestFilter.isKeysetPagination() && this.isNullable(attributes)) {
+	        			orders.add(criteriaBuilder.asc(criteriaBuilder.selectCase()
+	        					.when(criteriaBuilder.isNull(this.getFieldExpressionPath(attributes, root)), 1)
+	        					.otherwise(0)));
+	        		}
 
 	        		switch (filterOrder.getSortOrder()) {
 	        			case DESC:
-	        				orders.add(criteriaBuilder.desc(this.getFieldExpressionPath(fields, root)));
+	        				orders.add(criteriaBuilder.desc(this.getFieldExpressionPath(attributes, root)));
 	        				break;
 	        			case ASC:
 	        			default:
-	        				orders.add(criteriaBuilder.asc(this.getFieldExpressionPath(fields, root)));
+	        				orders.add(criteriaBuilder.asc(this.getFieldExpressionPath(attributes, root)));
 	        				break;
 	        		}
 	        	}
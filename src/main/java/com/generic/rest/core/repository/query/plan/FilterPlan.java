@@ -0,0 +1,152 @@
+package com.generic.rest.core.repository.query.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.generic.rest.core.domain.filter.FilterClause;
+import com.generic.rest.core.domain.filter.FilterJunction;
+import com.generic.rest.core.domain.filter.FilterNegation;
+import com.generic.rest.core.domain.filter.FilterNode;
+import com.generic.rest.core.domain.filter.FilterParser;
+import com.generic.rest.core.domain.filter.LogicOperator;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
+
+/**
+ * Class responsible for representing a compiled filter: a tree of {@link FilterPlanNode} parsed and resolved only once
+ * for a given {@link FilterShape} and later bound to the literal values of each request.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterPlan {
+
+	private final FilterPlanNode root;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param root
+	 */
+	private FilterPlan(FilterPlanNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * Return the root of the plan, null if the filter has no clauses.
+	 *
+	 * @return {@link FilterPlanNode}
+	 */
+	public FilterPlanNode getRoot() {
+		return root;
+	}
+
+	/**
+	 * Return the operands of the root {@link LogicOperator#AND} of the plan, or the root itself otherwise.
+	 *
+	 * @return conjunctions
+	 */
+	public List<FilterPlanNode> getConjunctions() {
+		if (root == null) {
+			return Collections.emptyList();
+		}
+
+		if (root instanceof FilterPlanJunction filterPlanJunction && LogicOperator.AND.equals(filterPlanJunction.getLogicOperator())) {
+			return filterPlanJunction.getOperands();
+		}
+
+		return List.of(root);
+	}
+
+	/**
+	 * Compile a {@link FilterShape} key of a given entity class into a {@link FilterPlan}.
+	 *
+	 * @param entityMetadataRegistry
+	 * @param entityClass
+	 * @param shapeKey
+	 * @return {@link FilterPlan}
+	 * @throws NoSuchFieldException
+	 */
+	public static FilterPlan compile(EntityMetadataRegistry entityMetadataRegistry, Class<?> entityClass, String shapeKey)
+			throws NoSuchFieldException {
+
+		FilterNode filterNode = FilterParser.parse(shapeKey);
+
+		if (filterNode == null) {
+			return new FilterPlan(null);
+		}
+
+		return new FilterPlan(compileNode(entityMetadataRegistry, entityClass, filterNode, new ArrayList<>()));
+	}
+
+	/**
+	 * Compile a {@link FilterNode} and its operands, binding each clause to its value index in the order they appear.
+	 *
+	 * @param entityMetadataRegistry
+	 * @param entityClass
+	 * @param filterNode
+	 * @param clauses the clauses already compiled
+	 * @return {@link FilterPlanNode}
+	 * @throws NoSuchFieldException
+	 */
+	private static FilterPlanNode compileNode(EntityMetadataRegistry entityMetadataRegistry, Class<?> entityClass,
+			FilterNode filterNode, List<FilterPlanClause> clauses) throws NoSuchFieldException {
+
+		if (filterNode instanceof FilterNegation filterNegation) {
+			return new FilterPlanNegation(compileNode(entityMetadataRegistry, entityClass, filterNegation.getOperand(), clauses));
+		}
+
+		if (filterNode instanceof FilterJunction filterJunction) {
+			List<FilterPlanNode> operands = new ArrayList<>(filterJunction.getOperands().size());
+
+			for (FilterNode operand : filterJunction.getOperands()) {
+				operands.add(compileNode(entityMetadataRegistry, entityClass, operand, clauses));
+			}
+
+			return new FilterPlanJunction(filterJunction.getLogicOperator(), operands);
+		}
+
+		FilterPlanClause filterPlanClause = compileClause(entityMetadataRegistry, entityClass, (FilterClause) filterNode, clauses.size());
+		clauses.add(filterPlanClause);
+
+		return filterPlanClause;
+	}
+
+	/**
+	 * Compile a single {@link FilterClause} resolving its chain of attributes.
+	 *
+	 * @param entityMetadataRegistry
+	 * @param entityClass
+	 * @param filterClause
+	 * @param valueIndex
+	 * @return {@link FilterPlanClause}
+	 * @throws NoSuchFieldException
+	 */
+	private static FilterPlanClause compileClause(EntityMetadataRegistry entityMetadataRegistry, Class<?> entityClass,
+			FilterClause filterClause, int valueIndex) throws NoSuchFieldException {
+
+		if (filterClause.getFilterOperator() == null) {
+			throw new NoSuchFieldException(filterClause.getField());
+		}
+
+		List<AttributeMetadata> attributes = entityMetadataRegistry.getAttributePath(entityClass, filterClause.getField());
+
+		if (attributes.isEmpty()) {
+			throw new NoSuchFieldException(filterClause.getField());
+		}
+
+		return new FilterPlanClause(attributes, filterClause.getFilterOperator(), valueIndex);
+	}
+
+	/**
+	 * Filter plan toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterPlan [root=" + root + "]";
+	}
+
+}
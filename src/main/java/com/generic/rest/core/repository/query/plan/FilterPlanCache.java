@@ -0,0 +1,73 @@
+package com.generic.rest.core.repository.query.plan;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.generic.rest.core.repository.metadata.EntityMetadataRegistry;
+
+/**
+ * Bounded cache of {@link FilterPlan} per entity class, keyed by {@link FilterShape#getKey()}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public class FilterPlanCache {
+
+	private final long maximumSize;
+	private final EntityMetadataRegistry entityMetadataRegistry;
+	private final Map<Class<?>, Cache<String, FilterPlan>> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param entityMetadataRegistry registry used to resolve the filter attributes
+	 * @param maximumSize maximum number of plans kept per entity class
+	 */
+	public FilterPlanCache(EntityMetadataRegistry entityMetadataRegistry, long maximumSize) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Return the cached {@link FilterPlan} for given entity class and shape, compiling and caching it on the first request.
+	 *
+	 * @param entityClass
+	 * @param shape
+	 * @return {@link FilterPlan}
+	 * @throws NoSuchFieldException
+	 */
+	public FilterPlan get(Class<?> entityClass, FilterShape shape) throws NoSuchFieldException {
+		Cache<String, FilterPlan> entityPlans = this.plans.computeIfAbsent(entityClass,
+				clazz -> Caffeine.newBuilder().maximumSize(this.maximumSize).build());
+
+		try {
+			return entityPlans.get(shape.getKey(), shapeKey -> this.compile(entityClass, shapeKey));
+
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof NoSuchFieldException noSuchFieldException) {
+				throw noSuchFieldException;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Compile the plan, wrapping checked exceptions so they can cross the cache mapping function.
+	 *
+	 * @param entityClass
+	 * @param shapeKey
+	 * @return {@link FilterPlan}
+	 */
+	private FilterPlan compile(Class<?> entityClass, String shapeKey) {
+		try {
+			return FilterPlan.compile(this.entityMetadataRegistry, entityClass, shapeKey);
+
+		} catch (NoSuchFieldException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+}
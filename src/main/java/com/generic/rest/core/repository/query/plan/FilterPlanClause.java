@@ -0,0 +1,80 @@
+package com.generic.rest.core.repository.query.plan;
+
+import java.util.List;
+
+import com.generic.rest.core.domain.filter.FilterOperator;
+import com.generic.rest.core.repository.metadata.AttributeMetadata;
+
+/**
+ * Class responsible for representing a compiled filter clause of a {@link FilterPlan}: the already resolved
+ * chain of attributes, its {@link FilterOperator} and the index of the literal value it is bound to.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterPlanClause implements FilterPlanNode {
+
+	private final List<AttributeMetadata> attributes;
+	private final FilterOperator filterOperator;
+	private final int valueIndex;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param attributes
+	 * @param filterOperator
+	 * @param valueIndex
+	 */
+	public FilterPlanClause(List<AttributeMetadata> attributes, FilterOperator filterOperator, int valueIndex) {
+		this.attributes = List.copyOf(attributes);
+		this.filterOperator = filterOperator;
+		this.valueIndex = valueIndex;
+	}
+
+	/**
+	 * Return the resolved chain of attributes.
+	 *
+	 * @return attributes
+	 */
+	public List<AttributeMetadata> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Return the leaf last attribute.
+	 *
+	 * @return {@link AttributeMetadata}
+	 */
+	public AttributeMetadata getSignificantAttribute() {
+		return attributes.get(attributes.size() - 1);
+	}
+
+	/**
+	 * Return the {@link FilterOperator}.
+	 *
+	 * @return {@link FilterOperator}
+	 */
+	public FilterOperator getFilterOperator() {
+		return filterOperator;
+	}
+
+	/**
+	 * Return the index of the literal value bound to this clause.
+	 *
+	 * @return value index
+	 */
+	public int getValueIndex() {
+		return valueIndex;
+	}
+
+	/**
+	 * Filter plan clause toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterPlanClause [attributes=" + attributes + ", filterOperator=" + filterOperator + ", valueIndex=" + valueIndex + "]";
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.generic.rest.core.repository.query.plan;
+
+import java.util.List;
+
+import com.generic.rest.core.domain.filter.LogicOperator;
+
+/**
+ * Class responsible for representing compiled operands of a {@link FilterPlan} joined by the same {@link LogicOperator}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterPlanJunction implements FilterPlanNode {
+
+	private final LogicOperator logicOperator;
+	private final List<FilterPlanNode> operands;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param logicOperator
+	 * @param operands
+	 */
+	public FilterPlanJunction(LogicOperator logicOperator, List<FilterPlanNode> operands) {
+		this.logicOperator = logicOperator;
+		this.operands = List.copyOf(operands);
+	}
+
+	/**
+	 * Return the {@link LogicOperator} joining the operands.
+	 *
+	 * @return {@link LogicOperator}
+	 */
+	public LogicOperator getLogicOperator() {
+		return logicOperator;
+	}
+
+	/**
+	 * Return the compiled operands.
+	 *
+	 * @return operands
+	 */
+	public List<FilterPlanNode> getOperands() {
+		return operands;
+	}
+
+	/**
+	 * Filter plan junction toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterPlanJunction [logicOperator=" + logicOperator + ", operands=" + operands + "]";
+	}
+
+}
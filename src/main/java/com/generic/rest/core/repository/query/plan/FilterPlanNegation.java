@@ -0,0 +1,42 @@
+package com.generic.rest.core.repository.query.plan;
+
+/**
+ * Class responsible for representing a compiled operand of a {@link FilterPlan} negated by
+ * {@link com.generic.rest.core.domain.filter.LogicOperator#NOT}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterPlanNegation implements FilterPlanNode {
+
+	private final FilterPlanNode operand;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param operand
+	 */
+	public FilterPlanNegation(FilterPlanNode operand) {
+		this.operand = operand;
+	}
+
+	/**
+	 * Return the negated operand.
+	 *
+	 * @return {@link FilterPlanNode}
+	 */
+	public FilterPlanNode getOperand() {
+		return operand;
+	}
+
+	/**
+	 * Filter plan negation toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterPlanNegation [operand=" + operand + "]";
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.generic.rest.core.repository.query.plan;
+
+/**
+ * Node of a compiled {@link FilterPlan} tree: a {@link FilterPlanClause}, a {@link FilterPlanJunction} or a
+ * {@link FilterPlanNegation}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public interface FilterPlanNode {
+
+}
@@ -0,0 +1,84 @@
+package com.generic.rest.core.repository.query.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.generic.rest.core.domain.filter.FilterClause;
+import com.generic.rest.core.domain.filter.FilterNode;
+
+/**
+ * Class responsible for splitting the parsed filter of {@link com.generic.rest.core.domain.filter.RequestFilter}
+ * into its shape (fields, operators, logic operators and groups) and its literal values. </p>
+ * Filters that only differ in their values share the same shape key, so they can share the same {@link FilterPlan}.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public final class FilterShape {
+
+	public static final String VALUE_PLACEHOLDER = FilterClause.VALUE_PLACEHOLDER;
+
+	private final String key;
+	private final List<String> values;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param key
+	 * @param values
+	 */
+	private FilterShape(String key, List<String> values) {
+		this.key = key;
+		this.values = values;
+	}
+
+	/**
+	 * Return the shape key, the filter with every literal value replaced by {@link #VALUE_PLACEHOLDER}.
+	 *
+	 * @return key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Return the literal values of the filter in the order they appear.
+	 *
+	 * @return values
+	 */
+	public List<String> getValues() {
+		return values;
+	}
+
+	/**
+	 * Split a parsed filter into its shape key and its literal values, so the filter is not parsed again to look up its
+	 * {@link FilterPlan}.
+	 *
+	 * @param filterNode
+	 * @return {@link FilterShape}
+	 */
+	public static FilterShape of(FilterNode filterNode) {
+		if (filterNode == null) {
+			return new FilterShape("", Collections.emptyList());
+		}
+
+		StringBuilder key = new StringBuilder();
+		List<String> values = new ArrayList<>();
+
+		filterNode.appendTo(key, values);
+
+		return new FilterShape(key.toString(), values);
+	}
+
+	/**
+	 * Filter shape toString.
+	 *
+	 * @return toString
+	 */
+	@Override
+	public String toString() {
+		return "FilterShape [key=" + key + ", values=" + values + "]";
+	}
+
+}
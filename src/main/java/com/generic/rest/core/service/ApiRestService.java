@@ -1,6 +1,7 @@
 package com.generic.rest.core.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.generic.rest.core.domain.ApiResponse;
 import com.generic.rest.core.domain.BaseEntity;
@@ -43,4 +44,16 @@ public interface ApiRestService<E extends BaseEntity> {
 	 */
 	List<E> findAllRecords(RequestFilter requestFilter) throws ApiException;
 	
+	/**
+	 * Stream all data records according to {@link RequestFilter} api filters to given consumer, without page limits. </p>
+	 * The default implementation only exports the records of the requested page, see {@link #findAllRecords(RequestFilter)}.
+	 * 
+	 * @param requestFilter
+	 * @param consumer
+	 * @throws ApiException
+	 */
+	default void exportAll(RequestFilter requestFilter, Consumer<E> consumer) throws ApiException {
+		this.findAllRecords(requestFilter).forEach(consumer);
+	}
+	
 }
\ No newline at end of file
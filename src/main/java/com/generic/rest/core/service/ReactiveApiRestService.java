@@ -0,0 +1,52 @@
+package com.generic.rest.core.service;
+
+import com.generic.rest.core.domain.ApiResponse;
+import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.domain.filter.RequestFilter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non blocking interface for basic REST queries based on {@link RequestFilter}, returning {@link Mono} and {@link Flux}
+ * publishers instead of blocking the calling thread.
+ * 
+ * @author leonardo.ramos
+ *
+ * @param <E>
+ */
+public interface ReactiveApiRestService<E extends BaseEntity> {
+	
+	/**
+	 * Query data according to {@link RequestFilter} api filters.
+	 * 
+	 * @param requestFilter
+	 * @return {@link Mono} of the API Response with data records and count metadata.
+	 */
+	Mono<ApiResponse<E>> findAll(RequestFilter requestFilter);
+	
+	/**
+	 * Count the query data according to {@link RequestFilter} api filters.
+	 * 
+	 * @param requestFilter
+	 * @return {@link Mono} of the data count.
+	 */
+	Mono<Long> countAll(RequestFilter requestFilter);
+	
+	/**
+	 * Stream all data records according to {@link RequestFilter} api filters as they are read, without page limits.
+	 * 
+	 * @param requestFilter
+	 * @return {@link Flux} of records.
+	 */
+	Flux<E> exportAll(RequestFilter requestFilter);
+	
+	/**
+	 * Save entity.
+	 * 
+	 * @param entity
+	 * @return {@link Mono} of the saved entity.
+	 */
+	Mono<E> save(E entity);
+	
+}
@@ -10,6 +10,7 @@ import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -20,6 +21,7 @@ import com.generic.rest.core.util.StringParserUtils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.micrometer.common.util.StringUtils;
@@ -33,7 +35,7 @@ import jakarta.servlet.http.HttpServletRequest;
  */
 @Service
 @SuppressWarnings("unchecked")
-public final class TokenServiceImpl implements TokenService {
+public final class TokenServiceImpl implements TokenService, InitializingBean {
 	
 	private static final Logger lOGGER = LoggerFactory.getLogger(TokenServiceImpl.class);
 
@@ -46,6 +48,20 @@ public final class TokenServiceImpl implements TokenService {
 	@Value(JWTAUTH.TOKEN_PREFIX)
 	private String tokenPrefix;
 	
+	private SecretKey signKey;
+	private JwtParser jwtParser;
+	
+	/**
+	 * Build the sign key and the token parser once, since both are immutable and can be shared by all request threads.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.signKey = this.getSignKey();
+		this.jwtParser = Jwts.parser()
+				.verifyWith(this.signKey)
+				.build();
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -61,7 +77,7 @@ public final class TokenServiceImpl implements TokenService {
 		 		 .issuer(authEntity.getExternalId())
 		 		 .claims(claims)
 		 		 .expiration(new Date(System.currentTimeMillis() + this.expirationTime))
-				 .signWith(this.getSignKey())
+				 .signWith(this.signKey)
 				 .compact();
 	}
 	
@@ -72,10 +88,7 @@ public final class TokenServiceImpl implements TokenService {
 	public boolean validateToken(String token) {
 		if (token != null) {
 			try {
-				Jws<Claims> claims = (Jws<Claims>) Jwts.parser()
-					.verifyWith(this.getSignKey())
-					.build()
-					.parse(StringParserUtils.replace(token, this.tokenPrefix, ""));
+				Jws<Claims> claims = (Jws<Claims>) this.jwtParser.parse(StringParserUtils.replace(token, this.tokenPrefix, ""));
 				
 				String issuer = claims.getPayload().getIssuer();
 				
@@ -100,10 +113,7 @@ public final class TokenServiceImpl implements TokenService {
 	public String getTokenClaim(String token, String tokenClaim) {
 		if (token != null) {
 			try {
-				Jws<Claims> claims = (Jws<Claims>) Jwts.parser()
-						.verifyWith(this.getSignKey())
-						.build()
-						.parse(StringParserUtils.replace(token, this.tokenPrefix, ""));
+				Jws<Claims> claims = (Jws<Claims>) this.jwtParser.parse(StringParserUtils.replace(token, this.tokenPrefix, ""));
 					
 				return (String) claims.getPayload().get(tokenClaim);
 				
@@ -0,0 +1,216 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.generic.rest.core.BaseConstants.CONCURRENTQUERY;
+import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.exception.ApiException;
+import com.generic.rest.core.exception.InternalErrorApiException;
+
+/**
+ * Component responsible for running independent read only queries concurrently on virtual threads. </p>
+ * Each query runs in its own read only transaction, so it is bound to its own {@link jakarta.persistence.EntityManager}
+ * and database connection. At most the configured number of queries (api.query.concurrent.max-queries) run at once,
+ * bounding the connections taken from the pool, and the transaction timeout is applied by Spring as the
+ * <i>jakarta.persistence.query.timeout</i> hint of the queries, so the database aborts queries that outlive the
+ * configured timeout even after their futures are cancelled.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@Component
+public class ConcurrentQueryExecutor implements DisposableBean {
+	
+	private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+	private final TransactionTemplate transactionTemplate;
+	private final Semaphore permits;
+	private final long timeout;
+	
+	@Value(CONCURRENTQUERY.ENABLED)
+	private boolean enabled;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param transactionManager
+	 * @param timeout
+	 * @param maxQueries
+	 */
+	@Autowired
+	public ConcurrentQueryExecutor(PlatformTransactionManager transactionManager, 
+			@Value(CONCURRENTQUERY.TIMEOUT) long timeout, @Value(CONCURRENTQUERY.MAX_QUERIES) int maxQueries) {
+		
+		this.timeout = timeout;
+		this.permits = new Semaphore(maxQueries, true);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.transactionTemplate.setTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(timeout + 999L)));
+	}
+	
+	/**
+	 * Verify if concurrent query execution is enabled.
+	 * 
+	 * @return true if enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Return the timeout in milliseconds of the concurrent queries.
+	 * 
+	 * @return timeout
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+	
+	/**
+	 * Submit a query to run on a virtual thread inside its own read only transaction, once a permit of the configured
+	 * maximum of concurrent queries is available. Queries cancelled while waiting for a permit are not run.
+	 * 
+	 * @param <T>
+	 * @param query
+	 * @return {@link CompletableFuture} of the query result
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> query) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		this.executorService.execute(() -> this.run(query, result));
+		return result;
+	}
+	
+	/**
+	 * Wait for all given queries to complete within the configured timeout, cancelling all of them as soon as any fails
+	 * or when the timeout is reached.
+	 * 
+	 * @param queries
+	 * @throws ApiException
+	 */
+	public void awaitAll(CompletableFuture<?>... queries) throws ApiException {
+		CompletableFuture<Void> completion = new CompletableFuture<>();
+		CompletableFuture.allOf(queries).thenRun(() -> completion.complete(null));
+		
+		for (CompletableFuture<?> query : queries) {
+			query.whenComplete((result, e) -> {
+				if (e != null) {
+					completion.completeExceptionally(e);
+				}
+			});
+		}
+		
+		try {
+			completion.get(this.timeout, TimeUnit.MILLISECONDS);
+			
+		} catch (TimeoutException e) {
+			this.cancelAll(queries);
+			throw new InternalErrorApiException(String.format(MSGERROR.CONCURRENT_QUERY_TIMEOUT_ERROR, this.timeout), e);
+		
+		} catch (ExecutionException e) {
+			this.cancelAll(queries);
+			
+			if (e.getCause() instanceof ApiException apiException) {
+				throw apiException;
+			}
+			throw new InternalErrorApiException(MSGERROR.CONCURRENT_QUERY_ERROR, e.getCause());
+		
+		} catch (InterruptedException e) {
+			this.cancelAll(queries);
+			Thread.currentThread().interrupt();
+			throw new InternalErrorApiException(MSGERROR.CONCURRENT_QUERY_ERROR, e);
+		}
+	}
+	
+	/**
+	 * Run the query with a permit, completing given result with the query result or failure.
+	 * 
+	 * @param <T>
+	 * @param query
+	 * @param result
+	 */
+	private <T> void run(Callable<T> query, CompletableFuture<T> result) {
+		try {
+			if (!this.permits.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+				result.completeExceptionally(new InternalErrorApiException(
+						String.format(MSGERROR.CONCURRENT_QUERY_TIMEOUT_ERROR, this.timeout)));
+				return;
+			}
+			
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.completeExceptionally(e);
+			return;
+		}
+		
+		try {
+			if (!result.isDone()) {
+				result.complete(this.transactionTemplate.execute(status -> this.call(query)));
+			}
+			
+		} catch (CompletionException e) {
+			result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+			
+		} catch (RuntimeException | Error e) {
+			result.completeExceptionally(e);
+			
+		} finally {
+			this.permits.release();
+		}
+	}
+	
+	/**
+	 * Call the query, wrapping checked exceptions so they can cross the {@link TransactionTemplate}.
+	 * 
+	 * @param <T>
+	 * @param query
+	 * @return query result
+	 */
+	private <T> T call(Callable<T> query) {
+		try {
+			return query.call();
+			
+		} catch (RuntimeException e) {
+			throw e;
+			
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+	
+	/**
+	 * Cancel all given queries. Queries still waiting for a permit are skipped, and running queries are aborted by the
+	 * query timeout.
+	 * 
+	 * @param queries
+	 */
+	private void cancelAll(CompletableFuture<?>... queries) {
+		for (CompletableFuture<?> query : queries) {
+			query.cancel(false);
+		}
+	}
+	
+	/**
+	 * Shutdown the virtual thread executor.
+	 */
+	@Override
+	public void destroy() {
+		this.executorService.shutdownNow();
+	}
+	
+}
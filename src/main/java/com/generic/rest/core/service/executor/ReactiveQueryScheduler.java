@@ -0,0 +1,172 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.BaseConstants.REACTIVE;
+import com.generic.rest.core.exception.InternalErrorApiException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Component responsible for offloading blocking JPA calls from reactive pipelines, either to a bounded elastic
+ * {@link Scheduler} or to virtual threads, so request threads are never blocked waiting for the database. </p>
+ * Streamed results are produced with backpressure: the producing thread waits for downstream demand before emitting each
+ * element, so slow consumers do not make the rows pile up in memory. Since the producer holds its transaction, cursor and
+ * connection while waiting, the stream fails when no demand arrives within the configured timeout
+ * (api.reactive.demand-timeout).
+ *
+ * @author leonardo.ramos
+ *
+ */
+@Component
+public class ReactiveQueryScheduler implements DisposableBean {
+
+	private final Scheduler scheduler;
+	private final long demandTimeout;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param virtualThreads
+	 * @param threadCap
+	 * @param queueCap
+	 * @param demandTimeout
+	 */
+	@Autowired
+	public ReactiveQueryScheduler(@Value(REACTIVE.VIRTUAL_THREADS) boolean virtualThreads, @Value(REACTIVE.THREAD_CAP) int threadCap,
+			@Value(REACTIVE.QUEUE_CAP) int queueCap, @Value(REACTIVE.DEMAND_TIMEOUT) long demandTimeout) {
+
+		this.demandTimeout = demandTimeout;
+
+		if (virtualThreads) {
+			this.scheduler = Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(
+					Thread.ofVirtual().name(REACTIVE.SCHEDULER_NAME + "-", 0).factory()), REACTIVE.SCHEDULER_NAME);
+		} else {
+			this.scheduler = Schedulers.newBoundedElastic(threadCap > 0 ? threadCap : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+					queueCap, REACTIVE.SCHEDULER_NAME);
+		}
+	}
+
+	/**
+	 * Return a {@link Mono} running the blocking call on the scheduler once subscribed.
+	 *
+	 * @param <T>
+	 * @param call
+	 * @return {@link Mono}
+	 */
+	public <T> Mono<T> mono(Callable<T> call) {
+		return Mono.fromCallable(call).subscribeOn(this.scheduler);
+	}
+
+	/**
+	 * Return a {@link Flux} running the blocking producer on the scheduler once subscribed, emitting each element given
+	 * to the producer consumer as soon as downstream requests it. Cancelling the subscription, or no demand within the
+	 * demand timeout, aborts the producer. </p>
+	 * Downstream requests are not moved to the scheduler, since its worker is the one blocked waiting for them.
+	 *
+	 * @param <T>
+	 * @param producer
+	 * @return {@link Flux}
+	 */
+	public <T> Flux<T> flux(Consumer<Consumer<T>> producer) {
+		return Flux.<T>create(sink -> this.produce(producer, sink)).subscribeOn(this.scheduler, false);
+	}
+
+	/**
+	 * Run the producer, emitting its elements to the sink and completing or failing it at the end.
+	 *
+	 * @param <T>
+	 * @param producer
+	 * @param sink
+	 */
+	private <T> void produce(Consumer<Consumer<T>> producer, FluxSink<T> sink) {
+		ReentrantLock lock = new ReentrantLock();
+		Condition demanded = lock.newCondition();
+		Runnable signal = () -> {
+			lock.lock();
+			try {
+				demanded.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		};
+
+		sink.onRequest(requested -> signal.run());
+		sink.onCancel(signal::run);
+
+		try {
+			producer.accept(element -> {
+				this.awaitDemand(sink, lock, demanded);
+				sink.next(element);
+			});
+			sink.complete();
+
+		} catch (RuntimeException e) {
+			if (!sink.isCancelled()) {
+				sink.error(e);
+			}
+		}
+	}
+
+	/**
+	 * Wait until downstream requests more elements, aborting the producer if the subscription is cancelled or if no
+	 * demand arrives within the demand timeout.
+	 *
+	 * @param sink
+	 * @param lock
+	 * @param demanded
+	 * @throws CancellationException
+	 * @throws InternalErrorApiException
+	 */
+	private void awaitDemand(FluxSink<?> sink, ReentrantLock lock, Condition demanded) {
+		lock.lock();
+
+		try {
+			long remaining = TimeUnit.MILLISECONDS.toNanos(this.demandTimeout);
+
+			while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+				if (remaining <= 0) {
+					throw new InternalErrorApiException(String.format(MSGERROR.REACTIVE_DEMAND_TIMEOUT_ERROR, this.demandTimeout));
+				}
+
+				remaining = demanded.awaitNanos(remaining);
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException();
+
+		} finally {
+			lock.unlock();
+		}
+
+		if (sink.isCancelled()) {
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Dispose the scheduler.
+	 */
+	@Override
+	public void destroy() {
+		this.scheduler.dispose();
+	}
+
+}
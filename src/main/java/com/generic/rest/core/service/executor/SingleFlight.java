@@ -0,0 +1,102 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.exception.InternalErrorApiException;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution. </p>
+ * The first caller of a key runs the call, while callers arriving before it completes wait on the same in-flight future,
+ * up to the given timeout, and receive their own copy of its result or its exception. Once the call completes the key is
+ * released, so later callers run it again.
+ * 
+ * @author leonardo.ramos
+ *
+ * @param <K>
+ * @param <V>
+ */
+public final class SingleFlight<K, V> {
+	
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final long timeout;
+	private final UnaryOperator<V> copier;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param timeout maximum time in milliseconds waited for an in-flight call
+	 * @param copier function copying the result of the in-flight call for each waiting caller
+	 */
+	public SingleFlight(long timeout, UnaryOperator<V> copier) {
+		this.timeout = timeout;
+		this.copier = copier;
+	}
+	
+	/**
+	 * Run the call for given key, or wait for the result of the call already in flight for it.
+	 * 
+	 * @param key
+	 * @param call
+	 * @return result of the call
+	 */
+	public V execute(K key, Supplier<V> call) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, future);
+		
+		if (existing != null) {
+			return this.await(existing);
+		}
+		
+		try {
+			V result = call.get();
+			future.complete(result);
+			return result;
+			
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+			
+		} finally {
+			this.inFlight.remove(key, future);
+		}
+	}
+	
+	/**
+	 * Wait for the in-flight call up to the timeout, returning a copy of its result or rethrowing its exception if it failed.
+	 * 
+	 * @param future
+	 * @return copy of the result of the call
+	 */
+	private V await(CompletableFuture<V> future) {
+		try {
+			return this.copier.apply(future.get(this.timeout, TimeUnit.MILLISECONDS));
+			
+		} catch (TimeoutException e) {
+			throw new InternalErrorApiException(String.format(MSGERROR.CONCURRENT_QUERY_TIMEOUT_ERROR, this.timeout), e);
+			
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			
+			throw new InternalErrorApiException(MSGERROR.CONCURRENT_QUERY_ERROR, e.getCause());
+			
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalErrorApiException(MSGERROR.CONCURRENT_QUERY_ERROR, e);
+		}
+	}
+	
+}
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.generic.rest.core.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
@@ -10,17 +15,25 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.generic.rest.core.BaseConstants.BULK;
+import com.generic.rest.core.BaseConstants.CACHE;
 import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.config.cache.ApiEntityKeyGenerator;
+import com.generic.rest.core.config.cache.EntityCache;
 import com.generic.rest.core.domain.ApiMetadata;
 import com.generic.rest.core.domain.ApiResponse;
 import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.domain.filter.CountMode;
 import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.domain.filter.RequestFilterKey;
 import com.generic.rest.core.exception.ApiException;
 import com.generic.rest.core.exception.BadRequestApiException;
 import com.generic.rest.core.exception.NotFoundApiException;
 import com.generic.rest.core.repository.ApiRepository;
 import com.generic.rest.core.repository.BaseRepository;
 import com.generic.rest.core.service.ApiRestService;
+import com.generic.rest.core.service.executor.ConcurrentQueryExecutor;
+import com.generic.rest.core.service.executor.SingleFlight;
 
 /**
  * Implementation for {@link ApiRestService} to provide basic REST CRUD operations.
@@ -32,7 +45,10 @@ import com.generic.rest.core.service.ApiRestService;
 @Service
 public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRepository<E>> implements ApiRestService<E> {
 	
+	private SingleFlight<RequestFilterKey, ApiResponse<E>> singleFlight;
 	private ApiRepository<E> apiRepository;
+	private ConcurrentQueryExecutor concurrentQueryExecutor;
+	private EntityCache entityCache;
 	
 	protected abstract R getRepository();
 	protected abstract Class<E> getEntityClass();
@@ -42,18 +58,75 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 	 */
 	@Override
 	@Cacheable(
-			cacheNames = "apiEntities", 
-			key = "#requestFilter?.getRawRequestFilter()",
+			cacheResolver = CACHE.CACHE_RESOLVER, 
+			keyGenerator = CACHE.KEY_GENERATOR,
 			condition = "#requestFilter != null")
 	public ApiResponse<E> findAll(RequestFilter requestFilter) throws ApiException {
+		return this.loadAll(requestFilter);
+	}
+	
+	/**
+	 * Query records and count metadata according to {@link RequestFilter} api filters bypassing the cache, coalescing
+	 * identical concurrent calls into a single query. It's also used to refresh cached responses in background.
+	 * 
+	 * @param requestFilter
+	 * @return API Response with data records and count metadata.
+	 * @throws ApiException
+	 */
+	@Transactional(readOnly = true)
+	public ApiResponse<E> loadAll(RequestFilter requestFilter) throws ApiException {
+		return this.singleFlight.execute(ApiEntityKeyGenerator.getKey(this.getEntityClass(), requestFilter), () -> this.queryAll(requestFilter));
+	}
+	
+	/**
+	 * Query records and count metadata according to {@link RequestFilter} api filters.
+	 * 
+	 * @param requestFilter
+	 * @return API Response with data records and count metadata.
+	 * @throws ApiException
+	 */
+	private ApiResponse<E> queryAll(RequestFilter requestFilter) throws ApiException {
 		ApiResponse<E> response = new ApiResponse<>();
-		List<E> records = this.findAllRecords(requestFilter);
+		ApiMetadata metadata = new ApiMetadata();
+		CountMode countMode = requestFilter.getFetchCountMode();
+		List<E> records;
+		
+		if (CountMode.HAS_MORE.equals(countMode) && !requestFilter.hasValidAggregateFunction()) {
+			records = this.apiRepository.findAll(this.getEntityClass(), requestFilter, requestFilter.getFetchLimit() + 1);
+			metadata.setHasMore(records.size() > requestFilter.getFetchLimit());
+			
+			if (metadata.getHasMore()) {
+				records = new ArrayList<>(records.subList(0, requestFilter.getFetchLimit()));
+			}
+			
+		} else if (CountMode.EXACT.equals(countMode) && this.concurrentQueryExecutor.isEnabled()) {
+			CompletableFuture<List<E>> recordsQuery = this.concurrentQueryExecutor.submit(
+					() -> this.apiRepository.findAll(this.getEntityClass(), requestFilter));
+			CompletableFuture<Long> countQuery = this.concurrentQueryExecutor.submit(() -> this.countAll(requestFilter));
+			this.concurrentQueryExecutor.awaitAll(recordsQuery, countQuery);
+			
+			records = recordsQuery.join();
+			metadata.setTotalCount(countQuery.join());
+			metadata.setCountMode(CountMode.EXACT);
+			
+		} else {
+			records = this.apiRepository.findAll(this.getEntityClass(), requestFilter);
+		}
+		
 		response.setRecords(records);
 		
-		ApiMetadata metadata = new ApiMetadata();
-		metadata.setTotalCount(this.countAll(requestFilter));
+		if (metadata.getCountMode() == null) {
+			this.fillTotalCount(requestFilter, metadata, countMode);
+		}
+		
 		metadata.setPageOffset(requestFilter.getFetchOffset());
 		
+		if (!Boolean.FALSE.equals(metadata.getHasMore())) {
+			metadata.setNextCursor(this.apiRepository.getNextCursor(this.getEntityClass(), requestFilter, records));
+		}
+		
+		this.apiRepository.clearKeysetFields(this.getEntityClass(), requestFilter, records);
+		
 		if (requestFilter.hasValidAggregateFunction()) {
 			metadata.setPageSize(records.size());
 		} else {
@@ -65,6 +138,41 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 		return response;
 	}
 	
+	/**
+	 * Fill the total count of the metadata according to the requested {@link CountMode}, reporting the mode that actually
+	 * produced it: estimated counts fall back to exact counts when the database has no estimate for the query.
+	 * 
+	 * @param requestFilter
+	 * @param metadata
+	 * @param countMode
+	 * @throws ApiException
+	 */
+	private void fillTotalCount(RequestFilter requestFilter, ApiMetadata metadata, CountMode countMode) throws ApiException {
+		switch (countMode) {
+			case NONE:
+			case HAS_MORE:
+				metadata.setCountMode(countMode);
+				break;
+			case ESTIMATED:
+				Long estimatedCount = this.apiRepository.estimateCount(this.getEntityClass(), requestFilter);
+				
+				if (estimatedCount != null) {
+					metadata.setTotalCount(estimatedCount);
+					metadata.setCountMode(CountMode.ESTIMATED);
+					break;
+				}
+				
+				metadata.setTotalCount(this.countAll(requestFilter));
+				metadata.setCountMode(CountMode.EXACT);
+				break;
+			case EXACT:
+			default:
+				metadata.setTotalCount(this.countAll(requestFilter));
+				metadata.setCountMode(CountMode.EXACT);
+				break;
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -78,7 +186,19 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 	 */
 	@Override
 	public List<E> findAllRecords(RequestFilter requestFilter) throws ApiException {
-		return this.apiRepository.findAll(this.getEntityClass(), requestFilter);
+		List<E> records = this.apiRepository.findAll(this.getEntityClass(), requestFilter);
+		this.apiRepository.clearKeysetFields(this.getEntityClass(), requestFilter, records);
+		
+		return records;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(RequestFilter requestFilter, Consumer<E> consumer) throws ApiException {
+		this.apiRepository.streamAll(this.getEntityClass(), requestFilter, consumer);
 	}
 	
 	/**
@@ -108,8 +228,10 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 	 * @param entities to be deleted..
 	 */
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
    	public void deleteInBatch(List<E> entities) {
    		this.getRepository().deleteAllInBatch(entities);
+   		entities.forEach(entity -> this.entityCache.evictById(this.getEntityClass(), entity.getId()));
    	}
    	
    	/**
@@ -121,14 +243,63 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
    	 * @throws ApiException
    	 */
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public E update(Long id, E entity) throws ApiException {
 		if (entity.getId() == null || id == null || !entity.getId().equals(id)) {
 			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, id));
 		}
 
-		this.validateExists(id);
+		E entityUpdated = this.updateEntity(entity, BULK.ID_FIELD, id);
+		
+		if (entityUpdated == null) {
+			this.validateExists(id);
+			entityUpdated = this.getRepository().saveAndFlush(entity);
+		}
+		
+		this.entityCache.evictById(this.getEntityClass(), id);
+		
+		return entityUpdated;
+	}
+	
+	/**
+	 * Update entity by ID, delegating to {@link #update(Long, BaseEntity)}. </p>
+	 * Allows callers of services overloading update by other key types to update by ID without casting the key.
+	 * 
+	 * @param id
+	 * @param entity
+	 * @return Updated entity.
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public E updateById(Long id, E entity) throws ApiException {
+		return this.update(id, entity);
+	}
+	
+	/**
+	 * Update the whole entity matching the key attribute with a single conditional UPDATE statement when its metadata
+	 * allows it, detecting missing entities from the number of updated rows instead of querying them first. </p>
+	 * Returns null when the entity can not be written by a single statement, so the caller falls back to a merge.
+	 * 
+	 * @param entity
+	 * @param keyAttribute
+	 * @param key
+	 * @return updated entity or null if the entity is not updatable by a single statement
+	 * @throws ApiException
+	 */
+	protected E updateEntity(E entity, String keyAttribute, Object key) throws ApiException {
+		if (!this.apiRepository.isStatementUpdatable(this.getEntityClass())) {
+			return null;
+		}
+		
+		E entityUpdated = this.apiRepository.updateEntity(this.getEntityClass(), entity, keyAttribute, key);
 		
-		return this.getRepository().saveAndFlush(entity);
+		if (entityUpdated == null) {
+			throw new NotFoundApiException(String.format(BULK.ID_FIELD.equals(keyAttribute) ? 
+					MSGERROR.BASE_ENTITY_NOT_FOUND_ERROR : MSGERROR.ENTITY_NOT_FOUND_ERROR, key));
+		}
+		
+		return entityUpdated;
 	}
    	
    	/**
@@ -138,7 +309,7 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 	 * @throws NotFoundApiException
 	 */
 	public void validateExists(Long id) throws NotFoundApiException {
-		boolean existsEntity = this.getRepository().existsById(id);
+		boolean existsEntity = this.entityCache.contains(this.getEntityClass(), id) || this.getRepository().existsById(id);
 		
 		if (!existsEntity) {
 			throw new NotFoundApiException(String.format(MSGERROR.BASE_ENTITY_NOT_FOUND_ERROR, id));
@@ -167,6 +338,39 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
    	 */
    	public abstract E update(Object id, E entity) throws ApiException;
    	
+   	/**
+   	 * Write entities using JDBC batching, evicting the written entities from the entity cache.
+   	 * 
+   	 * @param entities
+   	 * @return written entities in the same order
+   	 * @throws ApiException
+   	 */
+   	protected List<E> saveInBatch(List<E> entities) throws ApiException {
+   		List<E> written = this.apiRepository.saveInBatch(this.getEntityClass(), entities);
+   		written.forEach(entity -> this.entityCache.evictById(this.getEntityClass(), entity.getId()));
+   		
+   		return written;
+   	}
+   	
+   	/**
+   	 * Update only the given attributes of the entities matching the key attribute with a single UPDATE statement when the
+   	 * entity metadata allows it, otherwise loading the entities and merging the attributes so their update callbacks are
+   	 * invoked.
+   	 * 
+   	 * @param keyAttribute
+   	 * @param key
+   	 * @param values attribute values by attribute name
+   	 * @return number of updated entities
+   	 * @throws ApiException
+   	 */
+   	protected Integer updateAttributes(String keyAttribute, Object key, Map<String, Object> values) throws ApiException {
+   		if (!this.apiRepository.isStatementUpdatable(this.getEntityClass())) {
+   			return this.apiRepository.mergeAttributes(this.getEntityClass(), keyAttribute, key, values);
+   		}
+   		
+   		return this.apiRepository.updateAttributes(this.getEntityClass(), keyAttribute, key, values);
+   	}
+   	
    	/**
    	 * Save entity.
    	 * 
@@ -176,6 +380,15 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
    	 */
    	public abstract E save(E entity) throws ApiException;
 
+   	/**
+   	 * Return the cache region of the entity, which holds the cached query results of this service only.
+   	 * 
+   	 * @return cache region name
+   	 */
+   	public String getCacheRegion() {
+   		return CACHE.API_ENTITIES + CACHE.REGION_SEPARATOR + this.getEntityClass().getName();
+   	}
+   	
    	/**
    	 * Set the apiRepository.
    	 * 
@@ -186,4 +399,35 @@ public abstract class ApiRestServiceImpl<E extends BaseEntity, R extends BaseRep
 		this.apiRepository = apiRepository;
 	}
    	
+   	/**
+   	 * Set the concurrentQueryExecutor, creating the {@link SingleFlight} of identical queries, whose waiting callers
+   	 * are bounded by the concurrent query timeout and receive their own copy of the response.
+   	 * 
+   	 * @param concurrentQueryExecutor
+   	 */
+   	@Autowired
+   	public void setConcurrentQueryExecutor(ConcurrentQueryExecutor concurrentQueryExecutor) {
+   		this.concurrentQueryExecutor = concurrentQueryExecutor;
+   		this.singleFlight = new SingleFlight<>(concurrentQueryExecutor.getTimeout(), ApiResponse::new);
+   	}
+   	
+   	/**
+   	 * Return the entityCache.
+   	 * 
+   	 * @return entityCache
+   	 */
+   	public EntityCache getEntityCache() {
+   		return entityCache;
+   	}
+   	
+   	/**
+   	 * Set the entityCache.
+   	 * 
+   	 * @param entityCache
+   	 */
+   	@Autowired
+   	public void setEntityCache(EntityCache entityCache) {
+   		this.entityCache = entityCache;
+   	}
+   	
 }
\ No newline at end of file
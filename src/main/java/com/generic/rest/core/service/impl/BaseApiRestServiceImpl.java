@@ -1,14 +1,31 @@
 package com.generic.rest.core.service.impl;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.generic.rest.core.BaseConstants.BULK;
+import com.generic.rest.core.BaseConstants.CACHE;
 import com.generic.rest.core.BaseConstants.MSGERROR;
+import com.generic.rest.core.BaseConstants.PATCH;
 import com.generic.rest.core.domain.BaseApiEntity;
+import com.generic.rest.core.domain.BulkItemResult;
 import com.generic.rest.core.exception.ApiException;
 import com.generic.rest.core.exception.BadRequestApiException;
 import com.generic.rest.core.exception.NotFoundApiException;
+import com.generic.rest.core.repository.ApiRepository;
 import com.generic.rest.core.repository.BaseApiRepository;
 import com.generic.rest.core.util.external.id.ExternalIdGenerator;
 import com.generic.rest.core.util.external.id.impl.UUIDExternalIdGenerator;
@@ -24,6 +41,9 @@ import com.generic.rest.core.util.external.id.impl.UUIDExternalIdGenerator;
 public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends BaseApiRepository<E>> 
 	extends ApiRestServiceImpl<E, R>{
 	
+	@Value(BULK.DELETE_CHUNK_SIZE)
+	private int deleteChunkSize;
+	
 	/**
 	 * Default ExternalId generator.
 	 * 
@@ -41,12 +61,21 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
 	 * @throws NotFoundApiException
 	 */
 	public E getByExternalId(String externalId) throws NotFoundApiException {
-		E entity = this.getRepository().findOneByExternalId(externalId);
+		E entity = this.getEntityCache().getByExternalId(this.getEntityClass(), externalId);
+		
+		if (entity != null) {
+			return entity;
+		}
+		
+		long stamp = this.getEntityCache().getStamp();
+		entity = this.getRepository().findOneByExternalId(externalId);
 		
 		if (entity == null) {
 			throw new NotFoundApiException(String.format(MSGERROR.ENTITY_NOT_FOUND_ERROR, externalId));
 		}
 		
+		this.getEntityCache().put(this.getEntityClass(), entity, stamp);
+		
 		return entity;
 	}
 	
@@ -55,23 +84,13 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public E update(Object id, E entity) throws ApiException {
 		if (entity.getExternalId() == null || id == null || !entity.getExternalId().equals(id.toString())) {
 			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, id));
 		}
 
-		if (entity.getId() == null) {
-			E entityDatabase = this.getByExternalId(id.toString());
-			entity.setId(entityDatabase.getId());
-		}
-
-		entity.setUpdateDate(Calendar.getInstance());
-      
-		if (entity.isActive()) {
-			entity.setDeleteDate(null);
-		}
-      
-		return this.getRepository().saveAndFlush(entity);
+		return this.updateByExternalId(id.toString(), entity);
 	}
 	
 	/**
@@ -83,23 +102,86 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
 	 * @throws ApiException
 	 */
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public E update(String externalId, E entity) throws ApiException {
 		if (entity.getExternalId() == null || externalId == null || !entity.getExternalId().equals(externalId)) {
 			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, externalId));
 		}
 
-		if (entity.getId() == null) {
-			E entityDatabase = this.getByExternalId(externalId);
-			entity.setId(entityDatabase.getId());
-		}
-
+		return this.updateByExternalId(externalId, entity);
+	}
+	
+	/**
+	 * Update entity by ExternalId with a single conditional UPDATE statement when possible, otherwise loading its ID when
+	 * missing and merging it.
+	 * 
+	 * @param externalId
+	 * @param entity
+	 * @return Updated entity.
+	 * @throws ApiException
+	 */
+	private E updateByExternalId(String externalId, E entity) throws ApiException {
 		entity.setUpdateDate(Calendar.getInstance());
       
 		if (entity.isActive()) {
 			entity.setDeleteDate(null);
 		}
+		
+		E entityUpdated = this.updateEntity(entity, PATCH.EXTERNAL_ID_FIELD, externalId);
+		
+		if (entityUpdated != null) {
+			this.getEntityCache().evictByExternalId(this.getEntityClass(), externalId);
+			return entityUpdated;
+		}
+
+		if (entity.getId() == null) {
+			E entityDatabase = this.getByExternalId(externalId);
+			entity.setId(entityDatabase.getId());
+		}
       
-		return this.getRepository().saveAndFlush(entity);
+		return this.evictEntity(this.getRepository().saveAndFlush(entity));
+	}
+
+	/**
+	 * Partially update entity by ExternalId following JSON Merge Patch semantics, writing only the given fields with a
+	 * single UPDATE statement instead of loading and saving the whole entity. Entities with update callbacks or listeners
+	 * are loaded and merged instead, so their callbacks are invoked. </p>
+	 * Null values clear their fields, the update date is always refreshed and activating the entity clears its delete date.
+	 * Custom logic of overridden {@link #update(String, BaseApiEntity)} methods is not applied.
+	 * 
+	 * @param externalId
+	 * @param patch field values by field name
+	 * @return Updated entity.
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public E patch(String externalId, Map<String, Object> patch) throws ApiException {
+		if (externalId == null || patch == null || patch.isEmpty()) {
+			throw new BadRequestApiException(String.format(MSGERROR.BAD_REQUEST_ERROR, externalId));
+		}
+		
+		Map<String, Object> values = new LinkedHashMap<>(patch);
+		
+		if (externalId.equals(values.get(PATCH.EXTERNAL_ID_FIELD))) {
+			values.remove(PATCH.EXTERNAL_ID_FIELD);
+		}
+		
+		values.put(PATCH.UPDATE_DATE_FIELD, Calendar.getInstance());
+		
+		if (Boolean.TRUE.equals(values.get(PATCH.ACTIVE_FIELD))) {
+			values.put(PATCH.DELETE_DATE_FIELD, null);
+		}
+		
+		Integer updatedCount = this.updateAttributes(PATCH.EXTERNAL_ID_FIELD, externalId, values);
+		
+		if (updatedCount == 0) {
+			throw new NotFoundApiException(String.format(MSGERROR.ENTITY_NOT_FOUND_ERROR, externalId));
+		}
+		
+		this.getEntityCache().evictByExternalId(this.getEntityClass(), externalId);
+		
+		return this.getByExternalId(externalId);
 	}
 
 	/**
@@ -110,12 +192,15 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
 	 * @throws ApiException
 	 */
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public Integer delete(String externalId) throws ApiException {
 	   	Integer deletedCount = this.getRepository().deleteByExternalId(externalId);
 	   
 	   	if (deletedCount == 0) {
 		   	throw new NotFoundApiException(String.format(MSGERROR.ENTITY_NOT_FOUND_ERROR, externalId));
 	   	}
+	   	
+	   	this.getEntityCache().evictByExternalId(this.getEntityClass(), externalId);
 	   
 	   	return deletedCount;
 	}
@@ -129,6 +214,7 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
    	public E save(E entity) throws ApiException {
    		if (entity.getExternalId() == null || "".equals(entity.getExternalId())) {
    			entity.setExternalId(getExternalIdGenerator().get());
@@ -138,7 +224,226 @@ public abstract class BaseApiRestServiceImpl<E extends BaseApiEntity, R extends
    		entity.setUpdateDate(entity.getInsertDate());
    		entity.setDeleteDate(null);
 
-	   	return this.getRepository().saveAndFlush(entity);
+	   	return this.evictEntity(this.getRepository().saveAndFlush(entity));
    	}
 	
+	/**
+	 * Save entities in bulk, generating their missing ExternalIds at once. </p>
+	 * Null entities are reported as failed items while the others are saved, and the result of each item is returned in the
+	 * order of the request. Custom logic of overridden {@link #save(BaseApiEntity)} methods is not applied. Inserts are not
+	 * sent in JDBC batches for entities with IDENTITY generated IDs, see {@link ApiRepository#saveInBatch(Class, List)}.
+	 * 
+	 * @param entities
+	 * @return List of {@link BulkItemResult}
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public List<BulkItemResult<E>> saveAll(List<E> entities) throws ApiException {
+		List<BulkItemResult<E>> results = new ArrayList<>(Collections.nCopies(entities.size(), null));
+		List<String> externalIds = this.getExternalIdGenerator().get(entities.size());
+		List<Integer> indexes = new ArrayList<>(entities.size());
+		List<E> batch = new ArrayList<>(entities.size());
+		Calendar insertDate = Calendar.getInstance();
+		
+		for (int i = 0; i < entities.size(); i++) {
+			E entity = entities.get(i);
+			
+			if (entity == null) {
+				results.set(i, BulkItemResult.failure(i, HttpStatus.BAD_REQUEST, String.format(MSGERROR.BULK_ENTITY_NULL_ERROR, i)));
+				continue;
+			}
+			
+			if (entity.getExternalId() == null || "".equals(entity.getExternalId())) {
+				entity.setExternalId(externalIds.get(i));
+			}
+			
+			entity.setInsertDate(insertDate);
+			entity.setUpdateDate(insertDate);
+			entity.setDeleteDate(null);
+			
+			indexes.add(i);
+			batch.add(entity);
+		}
+		
+		return this.writeBatch(results, indexes, batch, HttpStatus.CREATED);
+	}
+	
+	/**
+	 * Update entities by ExternalId in bulk using JDBC batching, resolving their IDs with a single query. </p>
+	 * Null entities, entities without ExternalId and entities not found are reported as failed items while the others are
+	 * updated, and the result of each item is returned in the order of the request. Custom logic of overridden
+	 * {@link #update(String, BaseApiEntity)} methods is not applied.
+	 * 
+	 * @param entities
+	 * @return List of {@link BulkItemResult}
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public List<BulkItemResult<E>> updateAll(List<E> entities) throws ApiException {
+		List<BulkItemResult<E>> results = new ArrayList<>(Collections.nCopies(entities.size(), null));
+		Map<String, Long> ids = this.findIdsByExternalId(entities);
+		List<Integer> indexes = new ArrayList<>(entities.size());
+		List<E> batch = new ArrayList<>(entities.size());
+		Calendar updateDate = Calendar.getInstance();
+		
+		for (int i = 0; i < entities.size(); i++) {
+			E entity = entities.get(i);
+			
+			if (entity == null) {
+				results.set(i, BulkItemResult.failure(i, HttpStatus.BAD_REQUEST, String.format(MSGERROR.BULK_ENTITY_NULL_ERROR, i)));
+				continue;
+			}
+			
+			Long id = ids.get(entity.getExternalId());
+			
+			if (id == null) {
+				results.set(i, BulkItemResult.failure(i, HttpStatus.NOT_FOUND, 
+						String.format(MSGERROR.ENTITY_NOT_FOUND_ERROR, entity.getExternalId())));
+				continue;
+			}
+			
+			entity.setId(id);
+			entity.setUpdateDate(updateDate);
+			
+			if (entity.isActive()) {
+				entity.setDeleteDate(null);
+			}
+			
+			indexes.add(i);
+			batch.add(entity);
+		}
+		
+		return this.writeBatch(results, indexes, batch, HttpStatus.OK);
+	}
+	
+	/**
+	 * Resolve the IDs of the entities by their ExternalIds with a single query.
+	 * 
+	 * @param entities
+	 * @return Map of ExternalId to ID
+	 */
+	private Map<String, Long> findIdsByExternalId(List<E> entities) {
+		Set<String> externalIds = entities.stream()
+				.filter(Objects::nonNull)
+				.map(BaseApiEntity::getExternalId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		
+		if (externalIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		
+		return this.getRepository().findIdsByExternalIdIn(externalIds).stream()
+				.collect(Collectors.toMap(pair -> (String) pair[0], pair -> (Long) pair[1]));
+	}
+	
+	/**
+	 * Write the batch of valid entities, filling the results of their indexes with given status.
+	 * 
+	 * @param results
+	 * @param indexes
+	 * @param batch
+	 * @param status
+	 * @return List of {@link BulkItemResult}
+	 * @throws ApiException
+	 */
+	private List<BulkItemResult<E>> writeBatch(List<BulkItemResult<E>> results, List<Integer> indexes, List<E> batch, 
+			HttpStatus status) throws ApiException {
+		
+		List<E> written = this.saveInBatch(batch);
+		
+		for (int i = 0; i < written.size(); i++) {
+			results.set(indexes.get(i), BulkItemResult.success(indexes.get(i), status, written.get(i)));
+		}
+		
+		return results;
+	}
+	
+	/**
+	 * Logically delete entity by ExternalId, deactivating it and setting its delete date.
+	 * 
+	 * @param externalId
+	 * @return Number of logically deleted entities.
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public Integer logicDelete(String externalId) throws ApiException {
+		Integer deletedCount = this.getRepository().logicDelete(externalId, Calendar.getInstance());
+		
+		if (deletedCount == 0) {
+			throw new NotFoundApiException(String.format(MSGERROR.ENTITY_NOT_FOUND_ERROR, externalId));
+		}
+		
+		this.getEntityCache().evictByExternalId(this.getEntityClass(), externalId);
+		
+		return deletedCount;
+	}
+	
+	/**
+	 * Delete entities by ExternalIds in bulk, with one statement per chunk of the configured chunk size and without loading
+	 * the entities.
+	 * 
+	 * @param externalIds
+	 * @return Number of deleted entities.
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public Integer deleteAll(List<String> externalIds) throws ApiException {
+		return this.deleteInChunks(externalIds, chunk -> this.getRepository().deleteByExternalIdIn(chunk));
+	}
+	
+	/**
+	 * Logically delete entities by ExternalIds in bulk, with one statement per chunk of the configured chunk size.
+	 * 
+	 * @param externalIds
+	 * @return Number of logically deleted entities.
+	 * @throws ApiException
+	 */
+	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
+	public Integer logicDeleteAll(List<String> externalIds) throws ApiException {
+		Calendar deleteDate = Calendar.getInstance();
+		return this.deleteInChunks(externalIds, chunk -> this.getRepository().logicDeleteByExternalIdIn(chunk, deleteDate));
+	}
+	
+	/**
+	 * Run the delete statement for each chunk of distinct ExternalIds, evicting them from the entity cache.
+	 * 
+	 * @param externalIds
+	 * @param deleteStatement
+	 * @return Number of deleted entities.
+	 */
+	private Integer deleteInChunks(List<String> externalIds, ToIntFunction<List<String>> deleteStatement) {
+		List<String> distinctExternalIds = externalIds.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.toList();
+		int deletedCount = 0;
+		
+		for (int start = 0; start < distinctExternalIds.size(); start += this.deleteChunkSize) {
+			deletedCount += deleteStatement.applyAsInt(
+					distinctExternalIds.subList(start, Math.min(start + this.deleteChunkSize, distinctExternalIds.size())));
+		}
+		
+		distinctExternalIds.forEach(externalId -> this.getEntityCache().evictByExternalId(this.getEntityClass(), externalId));
+		
+		return deletedCount;
+	}
+	
+	/**
+	 * Evict the written entity from the entity cache, so its next read loads the committed state.
+	 * 
+	 * @param entity
+	 * @return entity
+	 */
+	private E evictEntity(E entity) {
+		this.getEntityCache().evictById(this.getEntityClass(), entity.getId());
+		
+		return entity;
+	}
+	
 }
\ No newline at end of file
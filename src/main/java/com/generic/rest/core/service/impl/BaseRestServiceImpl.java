@@ -1,7 +1,9 @@
 package com.generic.rest.core.service.impl;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.generic.rest.core.BaseConstants.CACHE;
 import com.generic.rest.core.BaseConstants.MSGERROR;
 import com.generic.rest.core.domain.BaseEntity;
 import com.generic.rest.core.exception.ApiException;
@@ -47,6 +49,7 @@ public abstract class BaseRestServiceImpl<E extends BaseEntity, R extends BaseRe
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public E update(Object id, E entity) throws ApiException {
 		Long idLong = null;
 		
@@ -68,10 +71,12 @@ public abstract class BaseRestServiceImpl<E extends BaseEntity, R extends BaseRe
 	 * @throws ApiException
 	 */
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
 	public boolean delete(Long id) throws ApiException {
 		this.validateExists(id);
 		
 		this.getRepository().deleteById(id);
+		this.getEntityCache().evictById(this.getEntityClass(), id);
 	   
 	   	return true;
    	}
@@ -85,8 +90,12 @@ public abstract class BaseRestServiceImpl<E extends BaseEntity, R extends BaseRe
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheResolver = CACHE.CACHE_RESOLVER, allEntries = true)
    	public E save(E entity) throws ApiException {
-	   	return this.getRepository().saveAndFlush(entity);
+	   	E entitySaved = this.getRepository().saveAndFlush(entity);
+	   	this.getEntityCache().evictById(this.getEntityClass(), entitySaved.getId());
+	   	
+	   	return entitySaved;
    	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.generic.rest.core.service.impl;
+
+import com.generic.rest.core.domain.ApiResponse;
+import com.generic.rest.core.domain.BaseEntity;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.service.ReactiveApiRestService;
+import com.generic.rest.core.service.executor.ReactiveQueryScheduler;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link ReactiveApiRestService} on top of a blocking {@link ApiRestServiceImpl}, offloading each call to
+ * the {@link ReactiveQueryScheduler} so the same {@link RequestFilter} query language, transactions and caches are reused.
+ * 
+ * @author leonardo.ramos
+ *
+ * @param <E>
+ */
+public class ReactiveApiRestServiceImpl<E extends BaseEntity> implements ReactiveApiRestService<E> {
+	
+	private final ApiRestServiceImpl<E, ?> service;
+	private final ReactiveQueryScheduler reactiveQueryScheduler;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param service
+	 * @param reactiveQueryScheduler
+	 */
+	public ReactiveApiRestServiceImpl(ApiRestServiceImpl<E, ?> service, ReactiveQueryScheduler reactiveQueryScheduler) {
+		this.service = service;
+		this.reactiveQueryScheduler = reactiveQueryScheduler;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Mono<ApiResponse<E>> findAll(RequestFilter requestFilter) {
+		return this.reactiveQueryScheduler.mono(() -> this.service.findAll(requestFilter));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Mono<Long> countAll(RequestFilter requestFilter) {
+		return this.reactiveQueryScheduler.mono(() -> this.service.countAll(requestFilter));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Flux<E> exportAll(RequestFilter requestFilter) {
+		return this.reactiveQueryScheduler.flux(consumer -> this.service.exportAll(requestFilter, consumer));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Mono<E> save(E entity) {
+		return this.reactiveQueryScheduler.mono(() -> this.service.save(entity));
+	}
+	
+}
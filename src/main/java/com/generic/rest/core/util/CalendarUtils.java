@@ -1,10 +1,22 @@
 package com.generic.rest.core.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +27,10 @@ import com.generic.rest.core.BaseConstants.MSGERROR;
 import io.micrometer.common.util.StringUtils;
 
 /**
- * Utility class for {@link Calendar} operations.
+ * Utility class for {@link Calendar} and <code>java.time</code> date operations. </p>
+ * Date texts are parsed with immutable {@link DateTimeFormatter} cached per pattern. Texts shaped as ISO-8601 dates
+ * and epoch milliseconds are recognized upfront and parsed directly, and dates without offset are taken in the
+ * {@link BaseConstants#DATE_TIMEZONE} time zone.
  * 
  * @author leonardo.ramos
  *
@@ -24,6 +39,25 @@ public class CalendarUtils {
 	
 	private static final Logger LOGGER = LoggerFactory.getLogger(CalendarUtils.class);
 
+	private static final TimeZone TIME_ZONE = TimeZone.getTimeZone(BaseConstants.DATE_TIMEZONE);
+	private static final ZoneId ZONE_ID = TIME_ZONE.toZoneId();
+	private static final Locale LOCALE = Locale.of(BaseConstants.LOCALE_PT, BaseConstants.LOCALE_BR);
+	private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+	private static final int ISO_DATE_LENGTH = 10;
+	private static final int BASIC_ISO_DATE_LENGTH = 8;
+	private static final int MAX_EPOCH_MILLIS_LENGTH = 18;
+	private static final DateTimeFormatter ISO_FORMATTER = new DateTimeFormatterBuilder()
+			.parseCaseInsensitive()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE)
+			.optionalStart()
+			.appendLiteral('T')
+			.append(DateTimeFormatter.ISO_LOCAL_TIME)
+			.optionalStart()
+			.appendOffsetId()
+			.optionalEnd()
+			.optionalEnd()
+			.toFormatter(Locale.ROOT);
+	
 	/**
 	 * Default constructor
 	 */
@@ -36,39 +70,177 @@ public class CalendarUtils {
 	 * 
 	 * @param dateText
 	 * @param dateFormat
-	 * @return {@link Calendar}
+	 * @return {@link Calendar} or null if dateText is blank or can not be parsed
 	 */
 	public static Calendar createCalendarFromString(String dateText, String dateFormat) {
+		OffsetDateTime dateTime = parseOffsetDateTime(dateText, dateFormat);
+		
+		return dateTime != null ? createCalendarFromMiliseconds(dateTime.toInstant().toEpochMilli()) : null;
+	}
+	
+	/**
+	 * Create instance of {@link Calendar} from miliseconds.
+	 * 
+	 * @param miliseconds
+	 * @return {@link Calendar}
+	 */
+	public static Calendar createCalendarFromMiliseconds(Long miliseconds) {
+		Calendar calendar = Calendar.getInstance(TIME_ZONE, LOCALE);
+		calendar.setTimeInMillis(miliseconds);
+		return calendar;
+	}
+	
+	/**
+	 * Parse an {@link Instant} with given format from parameter dateText.
+	 * 
+	 * @param dateText
+	 * @param dateFormat
+	 * @return {@link Instant} or null if dateText is blank or can not be parsed
+	 */
+	public static Instant parseInstant(String dateText, String dateFormat) {
+		OffsetDateTime dateTime = parseOffsetDateTime(dateText, dateFormat);
+		
+		return dateTime != null ? dateTime.toInstant() : null;
+	}
+	
+	/**
+	 * Parse an {@link OffsetDateTime} from parameter dateText. Texts shaped as ISO-8601 dates, e.g. <i>2024-03-01</i>,
+	 * <i>2024-03-01T10:15:30</i> or <i>2024-03-01T10:15:30+02:00</i>, are parsed as ISO-8601 and numeric texts as epoch
+	 * milliseconds, except for eight digits texts which are parsed as basic ISO-8601 dates, e.g. <i>20240301</i>. Any
+	 * other text is parsed with the given format.
+	 * 
+	 * @param dateText
+	 * @param dateFormat
+	 * @return {@link OffsetDateTime} or null if dateText is blank or can not be parsed
+	 */
+	public static OffsetDateTime parseOffsetDateTime(String dateText, String dateFormat) {
 		if (StringUtils.isBlank(dateText)) {
 			return null;
 		}
 		
-		Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(BaseConstants.DATE_TIMEZONE));
-		SimpleDateFormat simpleDateFormat = new SimpleDateFormat(dateFormat, 
-				Locale.of(BaseConstants.LOCALE_PT, BaseConstants.LOCALE_BR));
-
+		String trimmedText = dateText.trim();
+		OffsetDateTime dateTime = null;
+		
+		if (isIsoDate(trimmedText)) {
+			dateTime = parseIso(trimmedText);
+		
+		} else if (isEpochMillis(trimmedText)) {
+			return Instant.ofEpochMilli(Long.parseLong(trimmedText)).atZone(ZONE_ID).toOffsetDateTime();
+		}
+		
+		if (dateTime == null) {
+			dateTime = parse(trimmedText, getFormatter(dateFormat));
+		}
+		
+		if (dateTime == null && trimmedText.length() == BASIC_ISO_DATE_LENGTH) {
+			dateTime = parse(trimmedText, DateTimeFormatter.BASIC_ISO_DATE);
+		}
+		
+		if (dateTime == null) {
+			LOGGER.error(MSGERROR.ERROR_PARSE_DATE, dateText);
+		}
+		
+		return dateTime;
+	}
+	
+	/**
+	 * Return the cached {@link DateTimeFormatter} of given pattern.
+	 * 
+	 * @param dateFormat
+	 * @return {@link DateTimeFormatter}
+	 */
+	public static DateTimeFormatter getFormatter(String dateFormat) {
+		DateTimeFormatter formatter = FORMATTERS.get(dateFormat);
+		
+		if (formatter == null) {
+			formatter = FORMATTERS.computeIfAbsent(dateFormat, pattern -> DateTimeFormatter.ofPattern(pattern, LOCALE));
+		}
+		
+		return formatter;
+	}
+	
+	/**
+	 * Verify if a date text is shaped as an ISO-8601 date, with dashes at fixed positions and optionally followed by
+	 * a time.
+	 * 
+	 * @param dateText
+	 * @return true if the text is shaped as an ISO-8601 date, false otherwise
+	 */
+	private static boolean isIsoDate(String dateText) {
+		return dateText.length() >= ISO_DATE_LENGTH && dateText.charAt(4) == '-' && dateText.charAt(7) == '-'
+				&& (dateText.length() == ISO_DATE_LENGTH || Character.toUpperCase(dateText.charAt(ISO_DATE_LENGTH)) == 'T');
+	}
+	
+	/**
+	 * Verify if a date text is a number of epoch milliseconds.
+	 * 
+	 * @param dateText
+	 * @return true if the text is a number of epoch milliseconds, false otherwise
+	 */
+	private static boolean isEpochMillis(String dateText) {
+		return dateText.length() != BASIC_ISO_DATE_LENGTH && dateText.length() <= MAX_EPOCH_MILLIS_LENGTH
+				&& StringParserUtils.isNumeric(dateText);
+	}
+	
+	/**
+	 * Parse a date text shaped as an ISO-8601 date.
+	 * 
+	 * @param dateText
+	 * @return {@link OffsetDateTime} or null if the text is not a valid ISO-8601 date
+	 */
+	private static OffsetDateTime parseIso(String dateText) {
 		try {
-			calendar.setTime(simpleDateFormat.parse(dateText));
-		} 
-		catch (ParseException e) {
-			LOGGER.error(MSGERROR.ERROR_PARSE_DATE, dateText, e);
+			return toOffsetDateTime(ISO_FORMATTER.parse(dateText));
+		
+		} catch (DateTimeException e) {
 			return null;
 		}
+	}
+	
+	/**
+	 * Parse a date text with given formatter, verifying that the whole text matches the formatter before resolving it.
+	 * 
+	 * @param dateText
+	 * @param formatter
+	 * @return {@link OffsetDateTime} or null if the text does not match the formatter
+	 */
+	private static OffsetDateTime parse(String dateText, DateTimeFormatter formatter) {
+		ParsePosition position = new ParsePosition(0);
 		
-		return calendar;
+		if (formatter.parseUnresolved(dateText, position) == null || position.getIndex() != dateText.length()) {
+			return null;
+		}
+		
+		try {
+			return toOffsetDateTime(formatter.parse(dateText));
+		
+		} catch (DateTimeException e) {
+			return null;
+		}
 	}
 	
 	/**
-	 * Create instance of {@link Calendar} from miliseconds.
+	 * Convert a parsed date to {@link OffsetDateTime}, defaulting the time to midnight and the offset to the configured
+	 * time zone.
 	 * 
-	 * @param miliseconds
-	 * @return {@link Calendar}
+	 * @param temporal
+	 * @return {@link OffsetDateTime} or null if the parsed date has no date
 	 */
-	public static Calendar createCalendarFromMiliseconds(Long miliseconds) {
-		Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(BaseConstants.DATE_TIMEZONE), 
-				Locale.of(BaseConstants.LOCALE_PT, BaseConstants.LOCALE_BR));
-		calendar.setTimeInMillis(miliseconds);
-		return calendar;
+	private static OffsetDateTime toOffsetDateTime(TemporalAccessor temporal) {
+		LocalDate date = temporal.query(TemporalQueries.localDate());
+		
+		if (date == null) {
+			return null;
+		}
+		
+		LocalTime time = temporal.query(TemporalQueries.localTime());
+		ZoneOffset offset = temporal.query(TemporalQueries.offset());
+		
+		if (offset != null) {
+			return date.atTime(time != null ? time : LocalTime.MIDNIGHT).atOffset(offset);
+		}
+		
+		return date.atTime(time != null ? time : LocalTime.MIDNIGHT).atZone(ZONE_ID).toOffsetDateTime();
 	}
 	
 }
\ No newline at end of file
@@ -2,14 +2,11 @@ package com.generic.rest.core.util;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.generic.rest.core.BaseConstants;
+import com.generic.rest.core.util.codec.ValueCodec;
+import com.generic.rest.core.util.codec.ValueCodecRegistry;
 
 import io.micrometer.common.util.StringUtils;
 
@@ -19,10 +16,9 @@ import io.micrometer.common.util.StringUtils;
  * @author leonardo.ramos
  *
  */
-@SuppressWarnings({ "unchecked", "rawtypes" })
 public class ReflectionUtils {
 	
-	private static ObjectMapper mapper = new ObjectMapper();
+	private static final ValueCodecRegistry VALUE_CODEC_REGISTRY = new ValueCodecRegistry();
 
 	/**
 	 * Default constructor.
@@ -38,9 +34,11 @@ public class ReflectionUtils {
 	 * @param clazz
 	 * @return list of fields
 	 * @throws IOException
+	 * @deprecated resolve the {@link ValueCodec} of the type once with {@link ValueCodecRegistry#getCodec(Class)}
 	 */
+	@Deprecated
 	public static List<Object> getTypifiedValue(List<String> values, Class<?> clazz) throws IOException {
-		List<Object> typifiedValues = new ArrayList<>();
+		List<Object> typifiedValues = new ArrayList<>(values.size());
 		
 		for (String value : values) {
 			typifiedValues.add(getTypifiedValue(value, clazz));
@@ -56,39 +54,12 @@ public class ReflectionUtils {
 	 * @param clazz
 	 * @return field data value
 	 * @throws IOException
+	 * @deprecated resolve the {@link ValueCodec} of the type once with {@link ValueCodecRegistry#getCodec(Class)}
 	 */
+	@Deprecated
 	public static Object getTypifiedValue(String value, Class<?> clazz) throws IOException {
 		if (StringUtils.isNotBlank(value)) {
-			if (clazz.equals(Long.class)) {
-				return Double.valueOf(value).longValue();
-			
-			} else if (clazz.equals(Double.class)) {
-				return Double.valueOf(value);
-			
-			} else if (clazz.equals(Float.class)) {
-				return Float.valueOf(value);
-			
-			} else if (clazz.equals(Integer.class)) {
-				return Double.valueOf(value).intValue();
-			
-			} else if (clazz.equals(BigDecimal.class)) {
-				return new BigDecimal(value.trim());
-				
-			} else if (clazz.equals(Date.class)) {
-				return Double.valueOf(value);
-			
-			} else if (clazz.equals(Calendar.class)) {
-				return getCalendarFieldValue(value);
-			
-			} else if (clazz.equals(String.class)) {
-				return value;
-			
-			} else if (clazz.isEnum()) {
-				return getEnumFieldValue(value, clazz);
-				
-			} else {
-				return mapper.readValue(value, clazz);
-			}
+			return VALUE_CODEC_REGISTRY.getCodec(clazz).decode(value);
 		}
 		
 		return value;
@@ -123,34 +94,6 @@ public class ReflectionUtils {
 		}
 	}
 	
-	/**
-	 * Parse value of type {@link Enum}.
-	 * 
-	 * @param value
-	 * @param clazz
-	 * @return Field value for {@link Enum} type
-	 */
-	private static Object getEnumFieldValue(String value, Class<?> clazz) {
-		try {
-			return Enum.valueOf((Class<? extends Enum>) clazz, value);
-		} catch (IllegalArgumentException | NullPointerException e) {
-			return value.toUpperCase();
-		}
-	}
-
-	/**
-	 * Parse value of type {@link Calendar}.
-	 * 
-	 * @param value
-	 * @return {@link Calendar} value for data value
-	 */
-	private static Object getCalendarFieldValue(String value) {
-		if (StringParserUtils.isNumeric(value)) {
-			return CalendarUtils.createCalendarFromMiliseconds(Double.valueOf(value).longValue());
-		}
-		return CalendarUtils.createCalendarFromString(value, BaseConstants.DEFAULT_DATE_FORMAT);
-	}
-
 	/**
 	 * Make field accessible.
 	 * 
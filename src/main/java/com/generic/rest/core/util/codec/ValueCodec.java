@@ -0,0 +1,24 @@
+package com.generic.rest.core.util.codec;
+
+import java.io.IOException;
+
+/**
+ * Interface responsible for decoding a filter literal into a value of a given type.
+ * 
+ * @author leonardo.ramos
+ *
+ * @param <T>
+ */
+@FunctionalInterface
+public interface ValueCodec<T> {
+	
+	/**
+	 * Decode a non blank literal into a value of the codec type.
+	 * 
+	 * @param value
+	 * @return decoded value
+	 * @throws IOException
+	 */
+	public T decode(String value) throws IOException;
+	
+}
@@ -0,0 +1,20 @@
+package com.generic.rest.core.util.codec;
+
+/**
+ * Callback interface for registering custom {@link ValueCodec} in the {@link ValueCodecRegistry} before any entity
+ * attribute resolves its codec.
+ * 
+ * @author leonardo.ramos
+ *
+ */
+@FunctionalInterface
+public interface ValueCodecCustomizer {
+	
+	/**
+	 * Customize the {@link ValueCodecRegistry}.
+	 * 
+	 * @param valueCodecRegistry
+	 */
+	public void customize(ValueCodecRegistry valueCodecRegistry);
+	
+}
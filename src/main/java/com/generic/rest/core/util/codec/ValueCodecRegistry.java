@@ -0,0 +1,206 @@
+package com.generic.rest.core.util.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.generic.rest.core.BaseConstants;
+import com.generic.rest.core.util.CalendarUtils;
+
+/**
+ * Registry of {@link ValueCodec} keyed by target type, used to decode filter literals into attribute values. </p>
+ * Numbers, booleans, UUIDs, {@link Calendar}, {@link Date} and the <code>java.time</code> types have built-in codecs.
+ * Enumerations get a codec with their constants indexed by name, and any other type falls back to a Jackson
+ * {@link ObjectReader}, both created once on the first lookup of the type. Custom codecs should be registered before
+ * the entity metadata is built, since each attribute resolves its codec only once.
+ *
+ * @author leonardo.ramos
+ *
+ */
+public class ValueCodecRegistry {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final Map<Class<?>, ValueCodec<?>> codecs = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor. Registers the built-in codecs.
+	 */
+	public ValueCodecRegistry() {
+		ValueCodec<Long> longCodec = ValueCodecRegistry::parseLong;
+		ValueCodec<Integer> integerCodec = ValueCodecRegistry::parseInteger;
+		ValueCodec<Short> shortCodec = value -> Short.valueOf(value.trim());
+		ValueCodec<Double> doubleCodec = value -> Double.valueOf(value.trim());
+		ValueCodec<Float> floatCodec = value -> Float.valueOf(value.trim());
+		ValueCodec<Boolean> booleanCodec = value -> Boolean.valueOf(value.trim());
+
+		this.register(String.class, value -> value)
+			.register(Long.class, longCodec)
+			.register(long.class, longCodec)
+			.register(Integer.class, integerCodec)
+			.register(int.class, integerCodec)
+			.register(Short.class, shortCodec)
+			.register(short.class, shortCodec)
+			.register(Double.class, doubleCodec)
+			.register(double.class, doubleCodec)
+			.register(Float.class, floatCodec)
+			.register(float.class, floatCodec)
+			.register(Boolean.class, booleanCodec)
+			.register(boolean.class, booleanCodec)
+			.register(BigDecimal.class, value -> new BigDecimal(value.trim()))
+			.register(BigInteger.class, value -> new BigInteger(value.trim()))
+			.register(UUID.class, value -> UUID.fromString(value.trim()))
+			.register(Calendar.class, ValueCodecRegistry::parseCalendar)
+			.register(Date.class, ValueCodecRegistry::parseDate)
+			.register(Instant.class, value -> CalendarUtils.parseInstant(value, BaseConstants.DEFAULT_DATE_FORMAT))
+			.register(OffsetDateTime.class, value -> CalendarUtils.parseOffsetDateTime(value, BaseConstants.DEFAULT_DATE_FORMAT))
+			.register(ZonedDateTime.class, value -> ZonedDateTime.parse(value.trim()))
+			.register(LocalDateTime.class, value -> LocalDateTime.parse(value.trim()))
+			.register(LocalDate.class, value -> LocalDate.parse(value.trim()))
+			.register(LocalTime.class, value -> LocalTime.parse(value.trim()));
+	}
+
+	/**
+	 * Register a {@link ValueCodec} for given type, replacing any codec previously registered for it.
+	 *
+	 * @param <T>
+	 * @param type
+	 * @param valueCodec
+	 * @return {@link ValueCodecRegistry}
+	 */
+	public <T> ValueCodecRegistry register(Class<T> type, ValueCodec<? extends T> valueCodec) {
+		this.codecs.put(type, valueCodec);
+		return this;
+	}
+
+	/**
+	 * Return the {@link ValueCodec} of given type, creating the enumeration or Jackson codec on its first lookup.
+	 *
+	 * @param type
+	 * @return {@link ValueCodec}
+	 */
+	public ValueCodec<?> getCodec(Class<?> type) {
+		ValueCodec<?> valueCodec = this.codecs.get(type);
+
+		if (valueCodec == null) {
+			valueCodec = this.codecs.computeIfAbsent(type, ValueCodecRegistry::createCodec);
+		}
+
+		return valueCodec;
+	}
+
+	/**
+	 * Create the codec of a type without registered codec.
+	 *
+	 * @param type
+	 * @return {@link ValueCodec}
+	 */
+	private static ValueCodec<?> createCodec(Class<?> type) {
+		if (type.isEnum()) {
+			return createEnumCodec(type);
+		}
+
+		ObjectReader objectReader = MAPPER.readerFor(type);
+
+		return objectReader::readValue;
+	}
+
+	/**
+	 * Create the codec of an enumeration, matching its constants by name or upper case name. Unknown names are
+	 * decoded as the upper case literal.
+	 *
+	 * @param type
+	 * @return {@link ValueCodec}
+	 */
+	private static ValueCodec<Object> createEnumCodec(Class<?> type) {
+		Map<String, Object> constants = new HashMap<>();
+
+		for (Object constant : type.getEnumConstants()) {
+			constants.put(((Enum<?>) constant).name(), constant);
+		}
+
+		return value -> {
+			Object constant = constants.get(value);
+
+			if (constant == null) {
+				String upperCaseValue = value.toUpperCase(Locale.ROOT);
+				constant = constants.getOrDefault(upperCaseValue, upperCaseValue);
+			}
+
+			return constant;
+		};
+	}
+
+	/**
+	 * Parse a {@link Long}, falling back to a decimal representation, e.g. <i>1e3</i>, which must be an exact integer
+	 * within range.
+	 *
+	 * @param value
+	 * @return {@link Long}
+	 */
+	private static Long parseLong(String value) {
+		String trimmedValue = value.trim();
+
+		try {
+			return Long.parseLong(trimmedValue);
+
+		} catch (NumberFormatException e) {
+			return new BigDecimal(trimmedValue).longValueExact();
+		}
+	}
+
+	/**
+	 * Parse an {@link Integer}, falling back to a decimal representation, e.g. <i>1e3</i>, which must be an exact
+	 * integer within range.
+	 *
+	 * @param value
+	 * @return {@link Integer}
+	 */
+	private static Integer parseInteger(String value) {
+		String trimmedValue = value.trim();
+
+		try {
+			return Integer.parseInt(trimmedValue);
+
+		} catch (NumberFormatException e) {
+			return new BigDecimal(trimmedValue).intValueExact();
+		}
+	}
+
+	/**
+	 * Parse a {@link Calendar} from epoch milliseconds, {@link BaseConstants#DEFAULT_DATE_FORMAT} or ISO-8601.
+	 *
+	 * @param value
+	 * @return {@link Calendar}
+	 */
+	private static Calendar parseCalendar(String value) {
+		return CalendarUtils.createCalendarFromString(value, BaseConstants.DEFAULT_DATE_FORMAT);
+	}
+
+	/**
+	 * Parse a {@link Date} from epoch milliseconds, {@link BaseConstants#DEFAULT_DATE_FORMAT} or ISO-8601.
+	 *
+	 * @param value
+	 * @return {@link Date}
+	 */
+	private static Date parseDate(String value) {
+		Instant instant = CalendarUtils.parseInstant(value, BaseConstants.DEFAULT_DATE_FORMAT);
+
+		return instant != null ? Date.from(instant) : null;
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.generic.rest.core.util.external.id;
 
+import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Interface for generating custom ExternalId.
@@ -10,4 +12,16 @@ import java.util.function.Supplier;
  */
 public interface ExternalIdGenerator extends Supplier<String> {
 	
-}
\ No newline at end of file
+	/**
+	 * Generate given amount of ExternalIds at once.
+	 * 
+	 * @param amount
+	 * @return List of ExternalIds
+	 */
+	default List<String> get(int amount) {
+		return Stream.generate(this)
+				.limit(amount)
+				.toList();
+	}
+	
+}
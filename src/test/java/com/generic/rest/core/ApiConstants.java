@@ -33,6 +33,16 @@ public final class ApiConstants {
 			public static final String NAME = "users";
 			public static final String PATH = BaseConstants.CONTROLLER.BASE_PATH + NAME;
 		}
+
+		public static final class REACTIVE_USER {
+			
+			private REACTIVE_USER() {
+				
+			}
+			
+			public static final String NAME = "reactive/users";
+			public static final String PATH = BaseConstants.CONTROLLER.BASE_PATH + NAME;
+		}
 	}
 
 	public static final class MSGERROR {
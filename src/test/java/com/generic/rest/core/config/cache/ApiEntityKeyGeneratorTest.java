@@ -0,0 +1,44 @@
+package com.generic.rest.core.config.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.generic.rest.core.domain.Address;
+import com.generic.rest.core.domain.User;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.domain.filter.RequestFilterKey;
+
+class ApiEntityKeyGeneratorTest {
+	
+	@Test
+	void getKeyWithinRequest_Ok() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[email=test2@test.com;age>=20]");
+		RequestFilterKey requestFilterKey = ApiEntityKeyGenerator.getKey(User.class, requestFilter);
+		
+		Assertions.assertSame(requestFilterKey, ApiEntityKeyGenerator.getKey(User.class, requestFilter));
+		Assertions.assertNotSame(requestFilterKey, ApiEntityKeyGenerator.getKey(User.class, new RequestFilter()));
+		Assertions.assertEquals(Address.class, ApiEntityKeyGenerator.getKey(Address.class, requestFilter).getEntityType());
+	}
+	
+	@Test
+	void getKeyWithoutRequest_Ok() {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[email=test2@test.com;age>=20]");
+		RequestFilterKey requestFilterKey = ApiEntityKeyGenerator.getKey(User.class, requestFilter);
+		
+		Assertions.assertNotSame(requestFilterKey, ApiEntityKeyGenerator.getKey(User.class, requestFilter));
+		Assertions.assertEquals(requestFilterKey, ApiEntityKeyGenerator.getKey(User.class, requestFilter));
+	}
+	
+	@AfterEach
+	void clear() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.generic.rest.core.config.cache;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.generic.rest.core.domain.Address;
+import com.generic.rest.core.domain.Country;
+import com.generic.rest.core.domain.Role;
+import com.generic.rest.core.domain.User;
+import com.generic.rest.core.exception.NotFoundApiException;
+import com.generic.rest.core.service.AddressService;
+import com.generic.rest.core.service.UserService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(profiles = "test")
+class EntityCacheTest {
+	
+	@Autowired
+	private EntityCache entityCache;
+	
+	@Autowired
+	private UserService userService;
+	
+	@Autowired
+	private AddressService addressService;
+	
+	private User userDatabase;
+	
+	@BeforeEach
+	void setup() throws Exception {
+		Address address = Address.builder()
+				.street("Street Cache Test")
+				.state("RJ")
+				.streetNumber("Street 1")
+				.country(Country.builder().name("Brasil").build())
+				.build();
+		
+		userDatabase = userService.save(User.builder()
+				.name("User_Cache_Test")
+				.password("cacheTest")
+				.email("cache@test.com")
+				.age(30)
+				.role(Role.USER)
+				.address(address)
+				.build());
+		address.setUser(userDatabase);
+		addressService.save(address);
+	}
+	
+	@Test
+	void getCopy_Ok() throws Exception {
+		User user = userService.getByExternalId(userDatabase.getExternalId());
+		User cachedUser = userService.getByExternalId(userDatabase.getExternalId());
+		
+		Assertions.assertNotSame(user, cachedUser);
+		Assertions.assertEquals(user.getName(), cachedUser.getName());
+		Assertions.assertEquals(user.getAddress().getCountry().getName(), cachedUser.getAddress().getCountry().getName());
+		
+		cachedUser.setName("User_Cache_Modified");
+		cachedUser.getAddress().setStreet("Modified street");
+		
+		User copiedUser = entityCache.getByExternalId(User.class, userDatabase.getExternalId());
+		Assertions.assertEquals(user.getName(), copiedUser.getName());
+		Assertions.assertEquals(user.getAddress().getStreet(), copiedUser.getAddress().getStreet());
+	}
+	
+	@Test
+	void contains_Ok() throws Exception {
+		Assertions.assertFalse(entityCache.contains(User.class, userDatabase.getId()));
+		
+		userService.getByExternalId(userDatabase.getExternalId());
+		
+		Assertions.assertTrue(entityCache.contains(User.class, userDatabase.getId()));
+	}
+	
+	@Test
+	void putEvictedAfterStamp_Rejected() throws Exception {
+		long stamp = entityCache.getStamp();
+		User user = userService.getByExternalId(userDatabase.getExternalId());
+		entityCache.evictById(User.class, userDatabase.getId());
+		
+		entityCache.put(User.class, user, stamp);
+		
+		Assertions.assertFalse(entityCache.contains(User.class, userDatabase.getId()));
+		Assertions.assertNull(entityCache.getByExternalId(User.class, userDatabase.getExternalId()));
+		
+		entityCache.put(User.class, user, entityCache.getStamp());
+		
+		Assertions.assertTrue(entityCache.contains(User.class, userDatabase.getId()));
+	}
+	
+	@Test
+	void evictOnWrite_Ok() throws Exception {
+		userService.getByExternalId(userDatabase.getExternalId());
+		userService.patch(userDatabase.getExternalId(), Map.of("name", "User_Cache_Patched"));
+		
+		Assertions.assertEquals("User_Cache_Patched", userService.getByExternalId(userDatabase.getExternalId()).getName());
+		
+		userService.logicDelete(userDatabase.getExternalId());
+		
+		Assertions.assertFalse(userService.getByExternalId(userDatabase.getExternalId()).isActive());
+		Assertions.assertNotNull(userService.getByExternalId(userDatabase.getExternalId()).getDeleteDate());
+	}
+	
+	@AfterEach
+	void clear() {
+		try {
+			userService.delete(userDatabase.getExternalId());
+		} catch (NotFoundApiException e) {
+			// NOSONAR
+		}
+	}
+
+}
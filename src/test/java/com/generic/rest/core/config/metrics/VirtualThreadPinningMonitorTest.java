@@ -0,0 +1,46 @@
+package com.generic.rest.core.config.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.generic.rest.core.BaseConstants.VIRTUALTHREAD;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+	
+	@Test
+	void disabled_Ok() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, false, 10L);
+		
+		Assertions.assertFalse(monitor.isEnabled());
+		Assertions.assertNull(meterRegistry.find(VIRTUALTHREAD.PINNED_METRIC).timer());
+		monitor.destroy();
+	}
+	
+	@Test
+	void recordPinned_Ok() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, true, 10L);
+		
+		try {
+			Assertions.assertTrue(monitor.isEnabled());
+			
+			monitor.record(Duration.ofMillis(50), null);
+			
+			Timer pinnedTimer = meterRegistry.get(VIRTUALTHREAD.PINNED_METRIC).timer();
+			Assertions.assertEquals(1L, pinnedTimer.count());
+			Assertions.assertEquals(50.0, pinnedTimer.totalTime(TimeUnit.MILLISECONDS));
+
+		} finally {
+			monitor.destroy();
+		}
+	}
+
+}
@@ -4,10 +4,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.apache.tomcat.util.json.JSONParser;
 import org.junit.jupiter.api.AfterEach;
@@ -17,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -24,19 +30,33 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.generic.rest.core.ApiConstants;
 import com.generic.rest.core.ApiConstants.CONTROLLER.LOGIN;
+import com.generic.rest.core.BaseConstants;
 import com.generic.rest.core.BaseConstants.CONTROLLER;
 import com.generic.rest.core.BaseConstants.JWTAUTH;
+import com.generic.rest.core.BaseConstants.PATCH;
 import com.generic.rest.core.domain.Address;
 import com.generic.rest.core.domain.Country;
 import com.generic.rest.core.domain.Role;
 import com.generic.rest.core.domain.User;
+import com.generic.rest.core.domain.filter.AggregateFunction;
+import com.generic.rest.core.domain.filter.FilterOperator;
+import com.generic.rest.core.domain.filter.LogicOperator;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.exception.BadRequestApiException;
 import com.generic.rest.core.exception.NotFoundApiException;
 import com.generic.rest.core.service.AddressService;
 import com.generic.rest.core.service.UserService;
+import com.generic.rest.core.util.CalendarUtils;
+import com.generic.rest.core.util.codec.ValueCodecRegistry;
+
+import jakarta.persistence.EntityManager;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -54,6 +74,18 @@ class BaseApiRestControllerTest {
      
 	@Autowired
 	private AddressService addressService;
+	
+	@Autowired
+	private CacheManager cacheManager;
+	
+	@Autowired
+	private ValueCodecRegistry valueCodecRegistry;
+	
+	@Autowired
+	private EntityManager entityManager;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
 
 	private ObjectMapper objectMapper = new ObjectMapper();
 	private HttpHeaders authHeader = new HttpHeaders();
@@ -186,6 +218,105 @@ class BaseApiRestControllerTest {
 		Assertions.assertEquals(newState, userPut.getAddress().getState());
 	}
      
+	@Test
+	void bulkInsertUpdateAndDeleteUsers_Ok() throws Exception {
+		List<User> users = new ArrayList<>();
+		
+		for (int i = 1; i <= 3; i++) {
+			users.add(User.builder()
+					.name("User_Bulk_" + i)
+					.password(i + "bulk")
+					.email("bulk" + i + "@test.com")
+					.age(40 + i)
+					.role(Role.USER)
+					.build());
+		}
+		users.add(null);
+		
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.post(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.BULK_PATH)
+				.toString())
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(users))
+			.headers(authHeader))
+			.andExpect(status().isMultiStatus())
+			.andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value(201))
+			.andExpect(MockMvcResultMatchers.jsonPath("$[2].record.name").value("User_Bulk_3"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$[3].status").value(400))
+			.andReturn();
+		
+		List<String> externalIds = new ArrayList<>();
+		
+		for (int i = 0; i < 3; i++) {
+			User user = userService.getByExternalId(objectMapper.readTree(result.getResponse().getContentAsString())
+					.get(i).get("record").get("externalId").asText());
+			user.setName("User_Bulk_Updated_" + (i + 1));
+			
+			externalIds.add(user.getExternalId());
+			users.set(i, user);
+		}
+		
+		users.set(3, User.builder().name("User_Bulk_Unknown").build());
+		users.get(3).setExternalId("unknown");
+		
+		mvc.perform(MockMvcRequestBuilders.put(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.BULK_PATH)
+				.toString())
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(users))
+			.headers(authHeader))
+			.andExpect(status().isMultiStatus())
+			.andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value(200))
+			.andExpect(MockMvcResultMatchers.jsonPath("$[1].record.name").value("User_Bulk_Updated_2"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$[3].status").value(404));
+		
+		Assertions.assertEquals("User_Bulk_Updated_3", userService.getByExternalId(externalIds.get(2)).getName());
+		
+		mvc.perform(MockMvcRequestBuilders.delete(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.BULK_PATH)
+				.append("?logic=true")
+				.toString())
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(externalIds.subList(0, 2)))
+			.headers(authHeader))
+			.andExpect(status().isOk())
+			.andExpect(MockMvcResultMatchers.content().string("2"));
+		
+		Assertions.assertFalse(userService.getByExternalId(externalIds.get(0)).isActive());
+		
+		externalIds.add("unknown");
+		
+		mvc.perform(MockMvcRequestBuilders.delete(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.BULK_PATH)
+				.toString())
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(externalIds))
+			.headers(authHeader))
+			.andExpect(status().isOk())
+			.andExpect(MockMvcResultMatchers.content().string("3"));
+		
+		Assertions.assertThrows(NotFoundApiException.class, () -> userService.getByExternalId(externalIds.get(2)));
+		
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			User managedUser = entityManager.find(User.class, usersDatabase.get(4).getId());
+			User bulkUser = User.builder()
+					.name("User_Bulk_Managed")
+					.password("bulk")
+					.email("bulkmanaged@test.com")
+					.age(50)
+					.role(Role.USER)
+					.build();
+			
+			userService.saveAll(List.of(bulkUser));
+			managedUser.setName("User_Bulk_Managed_Updated");
+			userService.updateAll(List.of(managedUser));
+			
+			Assertions.assertTrue(entityManager.contains(managedUser));
+			Assertions.assertFalse(entityManager.contains(bulkUser));
+			status.setRollbackOnly();
+		});
+	}
+	
 	@Test
 	void getUserByExternalId_NotFound() throws Exception {
 		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
@@ -342,6 +473,507 @@ class BaseApiRestControllerTest {
            .andExpect(MockMvcResultMatchers.jsonPath("$.records[3]").doesNotExist());
 	}
 	
+	@Test
+	void operatorLookup_Ok() {
+		Assertions.assertEquals(FilterOperator.GE, FilterOperator.of("=GE="));
+		Assertions.assertEquals(FilterOperator.GE, FilterOperator.of(">="));
+		Assertions.assertEquals(FilterOperator.LK, FilterOperator.of("|lk|"));
+		Assertions.assertEquals(LogicOperator.OR, LogicOperator.of("_OR_"));
+		Assertions.assertEquals(LogicOperator.NOT, LogicOperator.of("!"));
+		Assertions.assertEquals(AggregateFunction.COUNT_DISTINCT, AggregateFunction.of("Count_Distinct"));
+		Assertions.assertTrue(AggregateFunction.isSumFunction("sum"));
+		Assertions.assertFalse(AggregateFunction.isSumFunction("median"));
+		Assertions.assertNull(FilterOperator.of(null));
+	}
+	
+	@Test
+	void valueCodecs_Ok() throws Exception {
+		Assertions.assertEquals(9007199254740993L, valueCodecRegistry.getCodec(Long.class).decode("9007199254740993"));
+		Assertions.assertEquals(21, valueCodecRegistry.getCodec(int.class).decode(" 21 "));
+		Assertions.assertEquals(1000, valueCodecRegistry.getCodec(Integer.class).decode("1e3"));
+		Assertions.assertThrows(NumberFormatException.class, () -> valueCodecRegistry.getCodec(Short.class).decode("70000"));
+		Assertions.assertThrows(ArithmeticException.class, () -> valueCodecRegistry.getCodec(Integer.class).decode("3e10"));
+		Assertions.assertThrows(ArithmeticException.class, () -> valueCodecRegistry.getCodec(Long.class).decode("1.5"));
+		Assertions.assertEquals(Role.ADMIN, valueCodecRegistry.getCodec(Role.class).decode("admin"));
+		Assertions.assertEquals(UUID.fromString("6f1c9d2e-8a4b-4c3d-9e5f-0a1b2c3d4e5f"),
+				valueCodecRegistry.getCodec(UUID.class).decode("6f1c9d2e-8a4b-4c3d-9e5f-0a1b2c3d4e5f"));
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[role=admin]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].email").value("test1@test.com"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1]").doesNotExist());
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age=3e10]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	void dateParsing_Ok() throws Exception {
+		long epochMillis = Instant.parse("2024-03-01T10:15:00Z").toEpochMilli();
+
+		Assertions.assertEquals(epochMillis, CalendarUtils.createCalendarFromString("2024-03-01T10:15Z", BaseConstants.DEFAULT_DATE_FORMAT).getTimeInMillis());
+		Assertions.assertEquals(epochMillis, CalendarUtils.createCalendarFromString("2024-03-01T12:15:00+02:00", BaseConstants.DEFAULT_DATE_FORMAT).getTimeInMillis());
+		Assertions.assertEquals(epochMillis, CalendarUtils.createCalendarFromString(String.valueOf(epochMillis), BaseConstants.DEFAULT_DATE_FORMAT).getTimeInMillis());
+		Assertions.assertEquals(Instant.parse("2024-03-01T00:00:00Z"), CalendarUtils.parseInstant("2024-03-01", BaseConstants.DEFAULT_DATE_FORMAT));
+		Assertions.assertEquals(Instant.parse("2024-03-01T00:00:00Z"), CalendarUtils.parseInstant("20240301", BaseConstants.DEFAULT_DATE_FORMAT));
+		Assertions.assertEquals(Instant.parse("2024-03-01T10:15:00Z"), CalendarUtils.parseInstant("01/03/2024 10:15", "dd/MM/yyyy HH:mm"));
+		Assertions.assertNull(CalendarUtils.createCalendarFromString("01/03/2024", BaseConstants.DEFAULT_DATE_FORMAT));
+		Assertions.assertEquals(OffsetDateTime.parse("2024-03-01T12:15+02:00"),
+				valueCodecRegistry.getCodec(OffsetDateTime.class).decode("2024-03-01T12:15+02:00"));
+		Assertions.assertEquals(Instant.ofEpochMilli(epochMillis), valueCodecRegistry.getCodec(Instant.class).decode("2024-03-01T10:15Z"));
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[insertDate>=2000-01-01T00:00Z]&sort=[age=asc]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[9].age").value(30));
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[insertDate<2000-01-01]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0]").doesNotExist());
+	}
+
+	@Test
+	void getAllUsersFilterOperatorAliases_Ok() throws Exception {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[age=ge=25; name=like=User_Test_2 _OR_ email!=test1@test.com, age|lt|22]");
+
+		Assertions.assertEquals("age|ge|25_and_name|lk|User_Test_2_or_email|ne|test1@test.com_or_age|lt|22", requestFilter.getFilter());
+
+		requestFilter.setFilter(requestFilter.getFilter());
+
+		Assertions.assertEquals("age|ge|25_and_name|lk|User_Test_2_or_email|ne|test1@test.com_or_age|lt|22", requestFilter.getFilter());
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age=in=(21,22,23);name!=User_Test_2]&sort=[age=asc]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].age").value(21))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].age").value(23))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2]").doesNotExist());
+	}
+
+	@Test
+	void getAllUsersFilterGroups_Ok() throws Exception {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[(age<=22,age>=29);!(name=User_Test_1,age=30)]");
+
+		Assertions.assertEquals("age|le|22_or_age|ge|29_and__not_(name|eq|User_Test_1_or_age|eq|30)", requestFilter.getFilter());
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[(age<=22,age>=29);!(name=User_Test_1,age=30)]&sort=[age=asc]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].age").value(22))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].age").value(29))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2]").doesNotExist());
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age=21,(age>=25;age<=26)]&sort=[age=asc]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].age").value(21))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].age").value(25))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2].age").value(26))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[3]").doesNotExist());
+
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[(age=21)age=22]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getAllUsersFilterSameShapeDifferentValues_Ok() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[email=test2@test.com;age>=20]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].email").value("test2@test.com"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1]").doesNotExist());
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[email=test3@test.com;age>=24]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0]").doesNotExist());
+	}
+	
+	@Test
+	void getAllUsersKeysetPagination_Ok() throws Exception {
+		MvcResult firstPage = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&limit=4&after=")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").value("User_Test_1"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[3].name").value("User_Test_3"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[4]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.nextCursor").exists())
+           .andReturn();
+		
+		MvcResult secondPage = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&limit=4&projection=[email]&after=")
+				.append(objectMapper.readTree(firstPage.getResponse().getContentAsString()).at("/metadata/nextCursor").asText())
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].email").value("test4@test.com"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[3].email").value("test7@test.com"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[4]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.nextCursor").exists())
+           .andReturn();
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&limit=4&after=")
+				.append(objectMapper.readTree(secondPage.getResponse().getContentAsString()).at("/metadata/nextCursor").asText())
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").value("User_Test_8"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].name").value("User_Test_9"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.nextCursor").doesNotExist());
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&limit=4&after=invalid")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	void getAllUsersKeysetPaginationNullKeys_Ok() throws Exception {
+		for (int i : new int[]{1, 3}) {
+			mvc.perform(MockMvcRequestBuilders.patch(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+					.append(CONTROLLER.PATH_SEPARATOR)
+					.append(usersDatabase.get(i).getExternalId())
+					.toString())
+				.contentType(PATCH.MERGE_PATCH_JSON)
+				.content("{\"name\":null}")
+				.headers(authHeader))
+				.andExpect(status().isOk());
+		}
+		
+		List<String> emails = new ArrayList<>();
+		String cursor = "";
+		
+		do {
+			MvcResult page = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+					.append("?sort=[name=desc]&limit=3&projection=[email]&after=")
+					.append(cursor)
+					.toString())
+			   .headers(authHeader))
+	           .andExpect(status().isOk())
+	           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").doesNotExist())
+	           .andReturn();
+			
+			JsonNode response = objectMapper.readTree(page.getResponse().getContentAsString());
+			response.at("/records").forEach(userRecord -> emails.add(userRecord.at("/email").asText()));
+			cursor = response.at("/metadata/nextCursor").asText();
+			
+		} while (!cursor.isEmpty());
+		
+		Assertions.assertEquals(List.of("test9@test.com", "test8@test.com", "test7@test.com", "test6@test.com", 
+				"test5@test.com", "test3@test.com", "test10@test.com", "test1@test.com", "test2@test.com", "test4@test.com"), emails);
+	}
+	
+	@Test
+	void getAllUsersCountModes_Ok() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&limit=4&countMode=has_more")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[3].name").value("User_Test_3"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[4]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.hasMore").value(true))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.countMode").value("HAS_MORE"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").doesNotExist());
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?sort=[name=asc]&offset=8&limit=4&countMode=has_more")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].name").value("User_Test_9"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.hasMore").value(false));
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?countMode=none")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[9]").exists())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.countMode").value("NONE"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").doesNotExist());
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?countMode=estimated")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.countMode").value("EXACT"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(TOTAL_USERS));
+	}
+	
+	@Test
+	void getAllUsersConcurrentQueries_Ok() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age>=25]&sort=[age=asc]&limit=2")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].age").value(25))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[1].age").value(26))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[2]").doesNotExist())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(6));
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[unknownField=1]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isBadRequest());
+	}
+	
+	@Test
+	void getAllUsersCacheEvictedOnWrite_Ok() throws Exception {
+		String path = new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age>=30]")
+				.toString();
+		
+		mvc.perform(MockMvcRequestBuilders.get(path)
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(1));
+		
+		Assertions.assertNotNull(cacheManager.getCache(userService.getCacheRegion()));
+		
+		addressService.findAll(new RequestFilter());
+		Cache addressCache = cacheManager.getCache(addressService.getCacheRegion());
+		Assertions.assertNotNull(addressCache);
+		Assertions.assertNotSame(cacheManager.getCache(BaseConstants.CACHE.API_ENTITIES), addressCache);
+		Assertions.assertNotNull(cacheManager.getCache(BaseConstants.CACHE.API_ENTITIES));
+		
+		User user = userService.getByExternalId(usersDatabase.get(1).getExternalId());
+		user.setAge(35);
+		userService.update(user.getExternalId(), user);
+		
+		mvc.perform(MockMvcRequestBuilders.get(path)
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(2));
+	}
+	
+	@Test
+	void getAllUsersCacheKeyCanonical_Ok() throws Exception {
+		Cache cache = cacheManager.getCache(userService.getCacheRegion());
+		
+		if (cache != null) {
+			cache.clear();
+		}
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[email=test2@test.com;age>=20]&projection=[name,email]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").value("User_Test_2"));
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age>=20;email=test2@test.com]&projection=[email,name]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].name").value("User_Test_2"));
+		
+		cache = cacheManager.getCache(userService.getCacheRegion());
+		Assertions.assertEquals(1L, ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).estimatedSize());
+	}
+	
+	@Test
+	void getAllUsersCacheRefreshAhead_Ok() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age>=29]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(2));
+		
+		com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = 
+				(com.github.benmanes.caffeine.cache.Cache<?, ?>) cacheManager.getCache(userService.getCacheRegion()).getNativeCache();
+		
+		Assertions.assertEquals(Duration.ofSeconds(300), nativeCache.policy().refreshAfterWrite().orElseThrow().getRefreshesAfter());
+		Assertions.assertEquals(Duration.ofSeconds(3600), nativeCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+		
+		for (Object key : nativeCache.asMap().keySet()) {
+			((com.github.benmanes.caffeine.cache.LoadingCache<Object, ?>) nativeCache).refresh(key).get();
+		}
+		
+		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append("?filter=[age>=29]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(2));
+	}
+	
+	@Test
+	void patchUser_Ok() throws Exception {
+		User user = usersDatabase.get(3);
+		String userPath = new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.PATH_SEPARATOR)
+				.append(user.getExternalId())
+				.toString();
+		
+		mvc.perform(MockMvcRequestBuilders.patch(userPath)
+			.contentType(PATCH.MERGE_PATCH_JSON)
+			.content("{\"name\":\"User_Test_Patched\",\"age\":40}")
+			.headers(authHeader))
+			.andExpect(status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.name").value("User_Test_Patched"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.age").value(40))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.email").value(user.getEmail()));
+		
+		User patchedUser = userService.getByExternalId(user.getExternalId());
+		Assertions.assertEquals("User_Test_Patched", patchedUser.getName());
+		Assertions.assertEquals(user.getEmail(), patchedUser.getEmail());
+		
+		mvc.perform(MockMvcRequestBuilders.patch(userPath)
+			.contentType(PATCH.MERGE_PATCH_JSON)
+			.content("{\"address\":{\"state\":\"SP\"}}")
+			.headers(authHeader))
+			.andExpect(status().isBadRequest());
+		
+		mvc.perform(MockMvcRequestBuilders.patch(userPath)
+			.contentType(PATCH.MERGE_PATCH_JSON)
+			.content("{\"insertDate\":null}")
+			.headers(authHeader))
+			.andExpect(status().isBadRequest());
+		
+		mvc.perform(MockMvcRequestBuilders.patch(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.PATH_SEPARATOR)
+				.append("notExistingExternalId")
+				.toString())
+			.contentType(PATCH.MERGE_PATCH_JSON)
+			.content("{\"name\":\"User_Test_Patched\"}")
+			.headers(authHeader))
+			.andExpect(status().isNotFound());
+	}
+	
+	@Test
+	void exportUsers_Ok() throws Exception {
+		MvcResult ndjsonResult = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.EXPORT_PATH)
+				.append("?sort=[name=asc]&limit=2")
+				.toString())
+		   .accept(MediaType.APPLICATION_NDJSON)
+		   .headers(authHeader))
+           .andExpect(MockMvcResultMatchers.request().asyncStarted())
+           .andReturn();
+		
+		String ndjson = mvc.perform(MockMvcRequestBuilders.asyncDispatch(ndjsonResult))
+           .andExpect(status().isOk())
+           .andReturn().getResponse().getContentAsString();
+		
+		String[] lines = ndjson.split("\n");
+		Assertions.assertEquals(2, lines.length);
+		Assertions.assertEquals("User_Test_1", objectMapper.readTree(lines[0]).get("name").asText());
+		
+		MvcResult allResult = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.EXPORT_PATH)
+				.append("?sort=[name=asc]&offset=1")
+				.toString())
+		   .accept(MediaType.APPLICATION_NDJSON)
+		   .headers(authHeader))
+           .andExpect(MockMvcResultMatchers.request().asyncStarted())
+           .andReturn();
+		
+		lines = mvc.perform(MockMvcRequestBuilders.asyncDispatch(allResult))
+           .andExpect(status().isOk())
+           .andReturn().getResponse().getContentAsString().split("\n");
+		
+		Assertions.assertEquals(TOTAL_USERS - 1, lines.length);
+		Assertions.assertEquals("User_Test_10", objectMapper.readTree(lines[0]).get("name").asText());
+		
+		MvcResult invalidResult = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.EXPORT_PATH)
+				.append("?limit=-1")
+				.toString())
+		   .accept(MediaType.APPLICATION_NDJSON)
+		   .headers(authHeader))
+           .andReturn();
+		
+		Exception exception = Assertions.assertThrows(Exception.class, 
+				() -> mvc.perform(MockMvcRequestBuilders.asyncDispatch(invalidResult)));
+		Assertions.assertInstanceOf(BadRequestApiException.class, exception.getCause());
+		
+		MvcResult jsonResult = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
+				.append(CONTROLLER.EXPORT_PATH)
+				.append("?projection=[name,email]&filter=[name=like=User_Test_1]&sort=[name=desc]")
+				.toString())
+		   .accept(MediaType.APPLICATION_JSON)
+		   .headers(authHeader))
+           .andExpect(MockMvcResultMatchers.request().asyncStarted())
+           .andReturn();
+		
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(jsonResult))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("User_Test_10"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$[1].name").value("User_Test_1"))
+           .andExpect(MockMvcResultMatchers.jsonPath("$[1].email").exists())
+           .andExpect(MockMvcResultMatchers.jsonPath("$[2]").doesNotExist());
+	}
+	
+	@Test
+	void getAllUsersReactive_Ok() throws Exception {
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.REACTIVE_USER.PATH)
+				.append("?filter=[age>=25]&sort=[age=asc]")
+				.toString())
+		   .headers(authHeader))
+           .andExpect(MockMvcResultMatchers.request().asyncStarted())
+           .andReturn();
+		
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+           .andExpect(status().isOk())
+           .andExpect(MockMvcResultMatchers.jsonPath("$.metadata.totalCount").value(6))
+           .andExpect(MockMvcResultMatchers.jsonPath("$.records[0].age").value(25));
+		
+		MvcResult ndjsonResult = mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.REACTIVE_USER.PATH)
+				.append(CONTROLLER.EXPORT_PATH)
+				.append("?sort=[name=asc]")
+				.toString())
+		   .accept(MediaType.APPLICATION_NDJSON)
+		   .headers(authHeader))
+           .andExpect(MockMvcResultMatchers.request().asyncStarted())
+           .andReturn();
+		
+		String ndjson = mvc.perform(MockMvcRequestBuilders.asyncDispatch(ndjsonResult))
+           .andExpect(status().isOk())
+           .andReturn().getResponse().getContentAsString();
+		
+		String[] lines = ndjson.split("\n");
+		Assertions.assertEquals(TOTAL_USERS, lines.length);
+		Assertions.assertEquals("User_Test_1", objectMapper.readTree(lines[0]).get("name").asText());
+	}
+	
 	@Test
 	void getAllUsersAggregationMultipleCountDistinct_Ok() throws Exception {
 		mvc.perform(MockMvcRequestBuilders.get(new StringBuilder(ApiConstants.CONTROLLER.USER.PATH)
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
@@ -90,6 +91,13 @@ public class Address extends BaseApiEntity {
 		this.user = user;
 	}
 
+	@PreUpdate
+	public void trimState() {
+		if (state != null) {
+			state = state.trim();
+		}
+	}
+
 	public static AddressBuilder builder() {
 		return new AddressBuilder();
 	}
@@ -0,0 +1,48 @@
+package com.generic.rest.core.domain.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FilterParserTest {
+	
+	@Test
+	void parseInList_Ok() {
+		FilterClause filterClause = (FilterClause) FilterParser.parse("[age=in=(21,22,23)]");
+		
+		Assertions.assertEquals("age", filterClause.getField());
+		Assertions.assertEquals(FilterOperator.IN, filterClause.getFilterOperator());
+		Assertions.assertEquals("(21,22,23)", filterClause.getValue());
+	}
+	
+	@Test
+	void parseInListWithParenthesis_Ok() {
+		FilterClause filterClause = (FilterClause) FilterParser.parse("[name=in=(a),b)]");
+		
+		Assertions.assertEquals("name", filterClause.getField());
+		Assertions.assertEquals(FilterOperator.IN, filterClause.getFilterOperator());
+		Assertions.assertEquals("(a),b)", filterClause.getValue());
+	}
+	
+	@Test
+	void parseInListFollowedByClause_Ok() {
+		FilterJunction orJunction = (FilterJunction) FilterParser.parse("[name=in=(a,b),age>20]");
+		
+		Assertions.assertEquals(LogicOperator.OR, orJunction.getLogicOperator());
+		Assertions.assertEquals("(a,b)", ((FilterClause) orJunction.getOperands().get(0)).getValue());
+		Assertions.assertEquals("20", ((FilterClause) orJunction.getOperands().get(1)).getValue());
+		
+		FilterJunction andJunction = (FilterJunction) FilterParser.parse("[(name=in=(a),b));age>20]");
+		
+		Assertions.assertEquals(LogicOperator.AND, andJunction.getLogicOperator());
+		Assertions.assertEquals("(a),b)", ((FilterClause) andJunction.getOperands().get(0)).getValue());
+	}
+	
+	@Test
+	void parseInListNotClosed_Ok() {
+		FilterJunction orJunction = (FilterJunction) FilterParser.parse("[name=in=(a,b]");
+		
+		Assertions.assertEquals("(a", ((FilterClause) orJunction.getOperands().get(0)).getValue());
+		Assertions.assertNull(((FilterClause) orJunction.getOperands().get(1)).getFilterOperator());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.generic.rest.core.domain.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.generic.rest.core.domain.User;
+
+class RequestFilterKeyTest {
+	
+	@Test
+	void canonicalKey_Ok() {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[(age>=20,age<=22);email=test2@test.com;email=test2@test.com]");
+		requestFilter.setProjection("[name,email,name]");
+		RequestFilterKey requestFilterKey = RequestFilterKey.of(User.class, requestFilter);
+		
+		Assertions.assertTrue(requestFilterKey.toString().contains("projection=[email, name]"));
+		
+		RequestFilter reorderedFilter = new RequestFilter();
+		reorderedFilter.setFilter("[email=test2@test.com;(age<=22,age>=20)]");
+		reorderedFilter.setProjection("[email,name]");
+		
+		Assertions.assertEquals(requestFilterKey, RequestFilterKey.of(User.class, reorderedFilter));
+	}
+	
+	@Test
+	void toRequestFilter_Ok() {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[name=in=(User_1,User_2);(age>=20,!(email=like=test));age<=40]");
+		requestFilter.setProjection("[name,email]");
+		requestFilter.setSort("[-name,email]");
+		requestFilter.setOffset(5);
+		requestFilter.setLimit(10);
+		requestFilter.setCountMode(CountMode.NONE.getMode());
+		requestFilter.setAfter("");
+		RequestFilterKey requestFilterKey = RequestFilterKey.of(User.class, requestFilter);
+		
+		RequestFilter rebuiltFilter = requestFilterKey.toRequestFilter();
+		
+		Assertions.assertNotSame(requestFilter, rebuiltFilter);
+		Assertions.assertEquals(requestFilterKey, RequestFilterKey.of(User.class, rebuiltFilter));
+		
+		requestFilter.setFilter("[age>=50]");
+		
+		Assertions.assertEquals(requestFilterKey, RequestFilterKey.of(User.class, rebuiltFilter));
+		Assertions.assertNotEquals(requestFilterKey, RequestFilterKey.of(User.class, requestFilter));
+	}
+	
+	@Test
+	void toRequestFilterAggregation_Ok() {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setSum("[age]");
+		requestFilter.setAvg("[age]");
+		requestFilter.setCount("[email]");
+		requestFilter.setCountDistinct("[name]");
+		requestFilter.setGroupBy("[role,name]");
+		RequestFilterKey requestFilterKey = RequestFilterKey.of(User.class, requestFilter);
+		
+		Assertions.assertEquals(requestFilterKey, RequestFilterKey.of(User.class, requestFilterKey.toRequestFilter()));
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.generic.rest.core.service;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.generic.rest.core.domain.Address;
+import com.generic.rest.core.domain.Country;
+import com.generic.rest.core.exception.BadRequestApiException;
+import com.generic.rest.core.exception.NotFoundApiException;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(profiles = "test")
+class AddressServiceTest {
+	
+	@Autowired
+	private AddressService addressService;
+	
+	private Address addressDatabase;
+	
+	@BeforeEach
+	void setup() throws Exception {
+		addressDatabase = addressService.save(Address.builder()
+				.street("Street Address Test")
+				.state("RJ")
+				.streetNumber("Street 1")
+				.country(Country.builder().name("Brasil").build())
+				.build());
+	}
+	
+	@Test
+	void patchWithUpdateCallbacks_Ok() throws Exception {
+		Address patchedAddress = addressService.patch(addressDatabase.getExternalId(), Map.of("state", " SP "));
+		
+		Assertions.assertEquals("SP", patchedAddress.getState());
+		Assertions.assertEquals("SP", addressService.getByExternalId(addressDatabase.getExternalId()).getState());
+		Assertions.assertEquals(addressDatabase.getStreet(), patchedAddress.getStreet());
+	}
+	
+	@Test
+	void patchWithUpdateCallbacks_BadRequest() throws Exception {
+		Assertions.assertThrows(BadRequestApiException.class,
+				() -> addressService.patch(addressDatabase.getExternalId(), Map.of("country", "Portugal")));
+	}
+	
+	@Test
+	void patchWithUpdateCallbacks_NotFound() throws Exception {
+		Assertions.assertThrows(NotFoundApiException.class, () -> addressService.patch("notExistingExternalId", Map.of("state", "SP")));
+	}
+	
+	@AfterEach
+	void clear() {
+		try {
+			addressService.delete(addressDatabase.getExternalId());
+		} catch (NotFoundApiException e) {
+			// NOSONAR
+		}
+	}
+
+}
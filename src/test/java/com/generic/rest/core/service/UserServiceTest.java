@@ -0,0 +1,183 @@
+package com.generic.rest.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.generic.rest.core.domain.Address;
+import com.generic.rest.core.domain.Country;
+import com.generic.rest.core.domain.Role;
+import com.generic.rest.core.domain.User;
+import com.generic.rest.core.domain.filter.RequestFilter;
+import com.generic.rest.core.exception.NotFoundApiException;
+import com.generic.rest.core.repository.ApiRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(profiles = "test")
+class UserServiceTest {
+	
+	@Autowired
+	private UserService userService;
+	
+	@Autowired
+	private AddressService addressService;
+	
+	@Autowired
+	private EntityManager entityManager;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
+	@Autowired
+	private ApiRepository<User> apiRepository;
+	
+	private User userDatabase;
+	
+	@BeforeEach
+	void setup() throws Exception {
+		Address address = Address.builder()
+				.street("Street Service Test")
+				.state("RJ")
+				.streetNumber("Street 1")
+				.country(Country.builder().name("Brasil").build())
+				.build();
+		
+		User user = User.builder()
+				.name("User_Service_Test")
+				.password("serviceTest")
+				.email("service@test.com")
+				.age(30)
+				.role(Role.USER)
+				.address(address)
+				.build();
+		
+		userDatabase = userService.save(user);
+		address.setUser(userDatabase);
+		addressService.save(address);
+	}
+	
+	@Test
+	void updateSingleStatement_Ok() throws Exception {
+		User user = copyOf(userDatabase);
+		user.setName("User_Service_Updated");
+		
+		Assertions.assertSame(user, userService.update((Object) user.getExternalId(), user));
+		
+		User updatedUser = userService.getByExternalId(user.getExternalId());
+		Assertions.assertEquals(userDatabase.getId(), updatedUser.getId());
+		Assertions.assertEquals("User_Service_Updated", updatedUser.getName());
+		Assertions.assertEquals(userDatabase.getEmail(), updatedUser.getEmail());
+	}
+	
+	@Test
+	void updateSingleStatement_NotFound() throws Exception {
+		User missingUser = copyOf(userDatabase);
+		missingUser.setExternalId("notExistingExternalId");
+		
+		Assertions.assertThrows(NotFoundApiException.class, () -> userService.update((Object) missingUser.getExternalId(), missingUser));
+		
+		missingUser.setId(-1L);
+		
+		Assertions.assertThrows(NotFoundApiException.class, () -> userService.update(-1L, missingUser));
+	}
+	
+	@Test
+	void updateSingleStatementRefreshManaged_Ok() throws Exception {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			User managedUser = entityManager.find(User.class, userDatabase.getId());
+			User user = copyOf(userDatabase);
+			user.setName("User_Service_Updated");
+			
+			Assertions.assertSame(user, userService.update((Object) user.getExternalId(), user));
+			Assertions.assertTrue(entityManager.contains(managedUser));
+			Assertions.assertEquals("User_Service_Updated", managedUser.getName());
+			status.setRollbackOnly();
+		});
+	}
+	
+	@Test
+	void exportKeepsManagedEntities_Ok() throws Exception {
+		User exportUser = copyOf(userDatabase);
+		exportUser.setExternalId(null);
+		exportUser.setEmail("service.export@test.com");
+		exportUser.setAddress(Address.builder()
+				.street("Street Export Test")
+				.state("RJ")
+				.streetNumber("Street 2")
+				.country(Country.builder().name("Brasil").build())
+				.build());
+		exportUser = userService.save(exportUser);
+		Object exportFetchSize = ReflectionTestUtils.getField(apiRepository, "exportFetchSize");
+		ReflectionTestUtils.setField(apiRepository, "exportFetchSize", 1);
+		
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				User managedUser = entityManager.find(User.class, userDatabase.getId());
+				List<User> exported = new ArrayList<>();
+				
+				userService.exportAll(new RequestFilter(), exported::add);
+				
+				Assertions.assertEquals(2, exported.size());
+				Assertions.assertTrue(entityManager.contains(managedUser));
+				Assertions.assertTrue(exported.stream()
+						.filter(user -> user != managedUser)
+						.noneMatch(entityManager::contains));
+			});
+			
+		} finally {
+			ReflectionTestUtils.setField(apiRepository, "exportFetchSize", exportFetchSize);
+			userService.delete(exportUser.getExternalId());
+		}
+	}
+	
+	@Test
+	void findAllInListWithParenthesis_Ok() throws Exception {
+		RequestFilter requestFilter = new RequestFilter();
+		requestFilter.setFilter("[name=in=(User),User_Service_Test);email=service@test.com]");
+		
+		List<User> users = userService.findAll(requestFilter).getRecords();
+		
+		Assertions.assertEquals(1, users.size());
+		Assertions.assertEquals(userDatabase.getExternalId(), users.get(0).getExternalId());
+	}
+	
+	private User copyOf(User user) {
+		User copy = User.builder()
+				.name(user.getName())
+				.password(user.getPassword())
+				.email(user.getEmail())
+				.age(user.getAge())
+				.role(user.getRole())
+				.build();
+		copy.setExternalId(user.getExternalId());
+		copy.setActive(user.isActive());
+		copy.setInsertDate(user.getInsertDate());
+		copy.setUpdateDate(user.getUpdateDate());
+		
+		return copy;
+	}
+	
+	@AfterEach
+	void clear() {
+		try {
+			userService.delete(userDatabase.getExternalId());
+		} catch (NotFoundApiException e) {
+			// NOSONAR
+		}
+	}
+
+}
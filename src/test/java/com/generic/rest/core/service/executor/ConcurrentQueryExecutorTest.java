@@ -0,0 +1,94 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.hibernate.jpa.SpecHints;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.generic.rest.core.exception.InternalErrorApiException;
+import com.generic.rest.core.exception.NotFoundApiException;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(profiles = "test")
+class ConcurrentQueryExecutorTest {
+	
+	private static final long QUERY_TIMEOUT = 1000L;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
+	@Autowired
+	private EntityManager entityManager;
+	
+	private ConcurrentQueryExecutor concurrentQueryExecutor;
+	
+	@BeforeEach
+	void setup() {
+		concurrentQueryExecutor = new ConcurrentQueryExecutor(transactionManager, QUERY_TIMEOUT, 2);
+	}
+	
+	@Test
+	void submitQueryTimeoutHint_Ok() throws Exception {
+		CompletableFuture<Object> hint = concurrentQueryExecutor.submit(() -> entityManager
+				.createQuery("select count(u) from User u").getHints().get(SpecHints.HINT_SPEC_QUERY_TIMEOUT));
+		
+		concurrentQueryExecutor.awaitAll(hint);
+		
+		Assertions.assertNotNull(hint.get());
+	}
+	
+	@Test
+	void awaitAllFailedQuery_Error() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> blockedQuery = concurrentQueryExecutor.submit(() -> {
+			release.await();
+			return null;
+		});
+		CompletableFuture<Object> failedQuery = concurrentQueryExecutor.submit(() -> {
+			throw new NotFoundApiException("Not found");
+		});
+		
+		try {
+			Assertions.assertThrows(NotFoundApiException.class, () -> concurrentQueryExecutor.awaitAll(blockedQuery, failedQuery));
+			Assertions.assertTrue(blockedQuery.isCancelled());
+
+		} finally {
+			release.countDown();
+		}
+	}
+	
+	@Test
+	void awaitAllTimeout_Error() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> blockedQuery = concurrentQueryExecutor.submit(() -> {
+			release.await();
+			return null;
+		});
+		
+		try {
+			Assertions.assertThrows(InternalErrorApiException.class, () -> concurrentQueryExecutor.awaitAll(blockedQuery));
+			Assertions.assertTrue(blockedQuery.isCancelled());
+
+		} finally {
+			release.countDown();
+		}
+	}
+	
+	@AfterEach
+	void clear() {
+		concurrentQueryExecutor.destroy();
+	}
+
+}
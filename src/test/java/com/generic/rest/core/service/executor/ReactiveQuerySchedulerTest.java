@@ -0,0 +1,106 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import com.generic.rest.core.BaseConstants.REACTIVE;
+import com.generic.rest.core.exception.InternalErrorApiException;
+
+import reactor.core.publisher.BaseSubscriber;
+
+class ReactiveQuerySchedulerTest {
+	
+	private static final long DEMAND_TIMEOUT = 200L;
+	
+	private ReactiveQueryScheduler scheduler;
+	
+	@BeforeEach
+	void setup() {
+		scheduler = new ReactiveQueryScheduler(false, 1, 10, DEMAND_TIMEOUT);
+	}
+	
+	@Test
+	void mono_Ok() {
+		String threadName = scheduler.mono(() -> Thread.currentThread().getName()).block();
+		
+		Assertions.assertTrue(threadName.startsWith(REACTIVE.SCHEDULER_NAME));
+	}
+	
+	@Test
+	void flux_Ok() {
+		List<Integer> received = scheduler.<Integer>flux(consumer -> {
+			for (int i = 0; i < 3; i++) {
+				consumer.accept(i);
+			}
+		}).collectList().block();
+		
+		Assertions.assertEquals(List.of(0, 1, 2), received);
+	}
+	
+	@Test
+	void fluxCancel_Ok() throws Exception {
+		AtomicBoolean produced = new AtomicBoolean();
+		CompletableFuture<Void> finished = new CompletableFuture<>();
+		
+		Assertions.assertEquals(List.of(0), scheduler.<Integer>flux(consumer -> {
+			try {
+				for (int i = 0; i < 3; i++) {
+					consumer.accept(i);
+				}
+				produced.set(true);
+
+			} finally {
+				finished.complete(null);
+			}
+		}).take(1).collectList().block());
+		
+		finished.get(5, TimeUnit.SECONDS);
+		Assertions.assertFalse(produced.get());
+	}
+	
+	@Test
+	void fluxDemandTimeout_Error() throws Exception {
+		CompletableFuture<Throwable> error = new CompletableFuture<>();
+		List<Integer> received = new ArrayList<>();
+		
+		scheduler.<Integer>flux(consumer -> {
+			for (int i = 0; i < 3; i++) {
+				consumer.accept(i);
+			}
+		}).subscribe(new BaseSubscriber<Integer>() {
+			
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+			
+			@Override
+			protected void hookOnNext(Integer value) {
+				received.add(value);
+			}
+			
+			@Override
+			protected void hookOnError(Throwable throwable) {
+				error.complete(throwable);
+			}
+		});
+		
+		Assertions.assertInstanceOf(InternalErrorApiException.class, error.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(List.of(0), received);
+	}
+	
+	@AfterEach
+	void clear() {
+		scheduler.destroy();
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.generic.rest.core.service.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.generic.rest.core.exception.BadRequestApiException;
+import com.generic.rest.core.exception.InternalErrorApiException;
+
+class SingleFlightTest {
+	
+	private static final long TIMEOUT = 5000L;
+	
+	@Test
+	void executeIdenticalCalls_Ok() throws Exception {
+		SingleFlight<String, List<String>> singleFlight = new SingleFlight<>(TIMEOUT, ArrayList::new);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		List<String> result = List.of("result");
+		
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				await(release);
+				return result;
+			}), executor);
+			
+			Assertions.assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			
+			CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+				calls.incrementAndGet();
+				return List.of("other");
+			}), executor);
+			
+			Thread.sleep(200L);
+			release.countDown();
+			
+			Assertions.assertSame(result, leader.get());
+			Assertions.assertNotSame(result, follower.get());
+			Assertions.assertEquals(result, follower.get());
+			Assertions.assertEquals(1, calls.get());
+		}
+	}
+	
+	@Test
+	void executeAfterCompletion_Ok() {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(TIMEOUT, String::new);
+		AtomicInteger calls = new AtomicInteger();
+		
+		singleFlight.execute("key", () -> "first" + calls.incrementAndGet());
+		
+		Assertions.assertEquals("second2", singleFlight.execute("key", () -> "second" + calls.incrementAndGet()));
+	}
+	
+	@Test
+	void executeFailedCall_Error() {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(TIMEOUT, String::new);
+		
+		Assertions.assertThrows(BadRequestApiException.class, () -> singleFlight.execute("key", () -> {
+			throw new BadRequestApiException("Invalid filter");
+		}));
+	}
+	
+	@Test
+	void awaitTimeout_Error() throws Exception {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(100L, String::new);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+				started.countDown();
+				await(release);
+				return "result";
+			}), executor);
+			
+			Assertions.assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			Assertions.assertThrows(InternalErrorApiException.class, () -> singleFlight.execute("key", () -> "other"));
+			
+			release.countDown();
+			Assertions.assertEquals("result", leader.get());
+		}
+	}
+	
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}